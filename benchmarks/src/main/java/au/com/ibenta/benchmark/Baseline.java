@@ -0,0 +1,91 @@
+package au.com.ibenta.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Results stored under {@code baseline/} and compared with each run, so a dependency upgrade that makes the request
+ * pipeline slower fails the run instead of going unnoticed.
+ *
+ * <p>Baselines are only comparable on the machine they were recorded on; record them with {@code -Dbaseline.update=true}
+ * on the reference machine and commit them. None is committed yet because no reference machine has run the suite, so
+ * until one is, a run without a baseline fails rather than passing with nothing compared.
+ */
+@Slf4j
+public final class Baseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(INDENT_OUTPUT);
+
+    private final String name;
+    private final double tolerance = Double.parseDouble(System.getProperty("baseline.tolerance", "0.2"));
+    private final boolean update = Boolean.getBoolean("baseline.update");
+
+    public Baseline(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Writes the results to {@code target/}, then compares them with the baseline, or records them as the baseline when
+     * {@code baseline.update} is set.
+     *
+     * @return whether there was a baseline to compare with and no score regressed by more than the tolerance
+     */
+    public boolean check(final List<Score> scores) throws IOException {
+        write(Paths.get("target", name + ".json"), scores);
+
+        final var file = Paths.get("baseline", name + ".json");
+        if (update) {
+            write(file, scores);
+            log.info("Recorded {} as the {} baseline", file, name);
+            return true;
+        }
+        if (!Files.exists(file)) {
+            log.error("No {} baseline at {}, nothing was compared; record one with -Dbaseline.update=true", name, file);
+            return false;
+        }
+
+        final Map<String, Score> baseline = MAPPER.readValue(file.toFile(), new TypeReference<List<Score>>() { })
+                .stream()
+                .collect(toMap(Score::getName, Function.identity()));
+
+        boolean passed = true;
+        for (final var score : scores) {
+            final var previous = baseline.get(score.getName());
+            if (previous == null) {
+                log.info("{}: {} {} (no baseline)", score.getName(), score.getValue(), score.getUnit());
+                continue;
+            }
+
+            final double change = change(previous.getValue(), score.getValue());
+            final boolean regressed = score.isHigherIsBetter() ? change < -tolerance : change > tolerance;
+            log.info("{}: {} {} against {} ({}{}%){}", score.getName(), score.getValue(), score.getUnit(),
+                    previous.getValue(), change >= 0 ? "+" : "", Math.round(change * 1000) / 10.0, regressed ? " REGRESSED" : "");
+            passed &= !regressed;
+        }
+        return passed;
+    }
+
+    private static double change(final double previous, final double current) {
+        if (previous == 0) {
+            return current == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, current);
+        }
+        return (current - previous) / previous;
+    }
+
+    private static void write(final Path file, final List<Score> scores) throws IOException {
+        Files.createDirectories(file.getParent());
+        MAPPER.writeValue(file.toFile(), scores);
+    }
+}
@@ -0,0 +1,37 @@
+package au.com.ibenta.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs every benchmark in this module and checks the scores against the {@code jmh} baseline.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var results = new Runner(new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + ".*Benchmark")
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build())
+                .run();
+
+        final var scores = results.stream()
+                .map(result -> new Score(result.getParams().getBenchmark(),
+                        result.getPrimaryResult().getScoreUnit(),
+                        result.getPrimaryResult().getScore(),
+                        result.getParams().getMode() == Mode.Throughput))
+                .collect(toList());
+
+        if (!new Baseline("jmh").check(scores)) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package au.com.ibenta.benchmark;
+
+import au.com.ibenta.config.WebConfiguration;
+import au.com.ibenta.fields.Fields;
+import au.com.ibenta.template.Template;
+import au.com.ibenta.test.persistence.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Encoding through the WebFlux JSON encoder with the application's object mapper, as responses are written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonEncodingBenchmark {
+
+    private final DataBufferFactory buffers = new DefaultDataBufferFactory();
+    private Jackson2JsonEncoder encoder;
+    private Template template;
+    private List<Map<String, Object>> projectedTemplates;
+    private UserEntity user;
+
+    @Setup
+    public void setUp() {
+        encoder = new Jackson2JsonEncoder(new WebConfiguration().configureObjectMapper().build());
+        template = Template.builder().id("1").name("name: 1").build();
+        final var fields = Fields.all(List.of("id", "name"));
+        projectedTemplates = IntStream.range(1, 11)
+                .mapToObj(id -> fields.project(Template.builder().id(String.valueOf(id)).name("name is " + id).build()))
+                .collect(toList());
+
+        user = new UserEntity();
+        user.setId(1L);
+        user.setFirstName("Jane");
+        user.setLastName("Citizen");
+        user.setEmail("jane.citizen@example.com");
+        user.setPassword("password");
+    }
+
+    @Benchmark
+    public int template() {
+        return encode(template, ResolvableType.forClass(Template.class));
+    }
+
+    @Benchmark
+    public int projectedTemplates() {
+        return encode(projectedTemplates, ResolvableType.forClassWithGenerics(List.class, Map.class));
+    }
+
+    @Benchmark
+    public int user() {
+        return encode(user, ResolvableType.forClass(UserEntity.class));
+    }
+
+    private int encode(final Object value, final ResolvableType type) {
+        final var buffer = encoder.encodeValue(value, buffers, type, APPLICATION_JSON, Map.of());
+        try {
+            return buffer.readableByteCount();
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package au.com.ibenta.benchmark;
+
+import au.com.ibenta.Application;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts the application on a random port and drives each hot route with a fixed number of concurrent connections,
+ * reporting throughput and latency percentiles and checking them against the {@code load-test} baseline.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private static final List<String> ROUTES = List.of("/template", "/template/1");
+    private static final List<String> PERCENTILES = List.of("50", "90", "99", "99.9");
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var duration = Duration.parse(System.getProperty("load-test.duration", "PT30S"));
+        final var warmup = Duration.parse(System.getProperty("load-test.warmup", "PT10S"));
+        final int concurrency = Integer.getInteger("load-test.concurrency", 32);
+
+        final var context = new SpringApplicationBuilder(Application.class)
+                .properties("server.port=0", "warmup.enabled=false", "spring.zipkin.enabled=false", "logging.level.root=warn",
+                        "logging.level.au.com.ibenta.benchmark=info")
+                .run(args);
+
+        final boolean passed;
+        try {
+            final var client = HttpClient.create()
+                    .baseUrl("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+
+            final List<Score> scores = new ArrayList<>();
+            for (final var route : ROUTES) {
+                run(client, route, concurrency, warmup);
+                scores.addAll(run(client, route, concurrency, duration));
+            }
+            passed = new Baseline("load-test").check(scores);
+        } finally {
+            context.close();
+        }
+
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static List<Score> run(final HttpClient client, final String route, final int concurrency, final Duration duration) {
+        final var recorder = new Recorder(3);
+        final var errors = new AtomicLong();
+        final long start = System.nanoTime();
+        final long deadline = start + duration.toNanos();
+
+        Flux.range(0, concurrency)
+                .flatMap(connection -> Mono.defer(() -> request(client, route, recorder, errors))
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast();
+
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        final Histogram histogram = recorder.getIntervalHistogram();
+
+        final List<Score> scores = new ArrayList<>();
+        scores.add(new Score(route + " throughput", "requests/s", histogram.getTotalCount() / seconds, true));
+        scores.add(new Score(route + " errors", "requests", errors.get(), false));
+        for (final var percentile : PERCENTILES) {
+            scores.add(new Score(route + " p" + percentile, "ms", histogram.getValueAtPercentile(Double.parseDouble(percentile)) / 1e6, false));
+        }
+        log.info("{} over {}: {} requests, {} errors", route, duration, histogram.getTotalCount(), errors.get());
+        return scores;
+    }
+
+    private static Mono<Integer> request(final HttpClient client, final String route, final Recorder recorder, final AtomicLong errors) {
+        final long start = System.nanoTime();
+        return client.get()
+                .uri(route)
+                .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                .doOnNext(status -> {
+                    recorder.recordValue(System.nanoTime() - start);
+                    if (status != 200) {
+                        errors.incrementAndGet();
+                    }
+                })
+                .onErrorResume(error -> {
+                    errors.incrementAndGet();
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,56 @@
+package au.com.ibenta.benchmark;
+
+import au.com.ibenta.pagination.WebFluxPageableResolverSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.SortHandlerMethodArgumentResolver;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageableResolverBenchmark {
+
+    private WebFluxPageableResolverSupport resolver;
+    private MethodParameter parameter;
+    private MockServerHttpRequest unpaged;
+    private MockServerHttpRequest paged;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        resolver = new WebFluxPageableResolverSupport(new PageableHandlerMethodArgumentResolver(new SortHandlerMethodArgumentResolver()));
+        parameter = new MethodParameter(PageableResolverBenchmark.class.getDeclaredMethod("handler", Pageable.class), 0);
+        unpaged = MockServerHttpRequest.get("/users").build();
+        paged = MockServerHttpRequest.get("/users?page=2&size=50&sort=lastName,desc&sort=firstName").build();
+    }
+
+    @Benchmark
+    public Object unpaged() {
+        return resolver.resolveArgument(parameter, null, MockServerWebExchange.from(unpaged)).block();
+    }
+
+    @Benchmark
+    public Object pagedAndSorted() {
+        return resolver.resolveArgument(parameter, null, MockServerWebExchange.from(paged)).block();
+    }
+
+    void handler(final Pageable pageable) {
+    }
+}
@@ -0,0 +1,68 @@
+package au.com.ibenta.benchmark;
+
+import au.com.ibenta.config.WebConfiguration;
+import au.com.ibenta.problem.ProblemHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.zalando.problem.Problem;
+import org.zalando.problem.ProblemModule;
+import org.zalando.problem.Status;
+import org.zalando.problem.spring.webflux.advice.ProblemExceptionHandler;
+import org.zalando.problem.violations.ConstraintViolationProblemModule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Error rendering as configured by {@code ProblemConfiguration}, including stack traces since
+ * {@code server.error.include-stacktrace} is {@code always}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProblemRenderingBenchmark {
+
+    private ProblemExceptionHandler handler;
+    private Throwable problem;
+    private Throwable unexpected;
+
+    @Setup
+    public void setUp() {
+        final var mapper = new WebConfiguration().configureObjectMapper()
+                .modulesToInstall(new ProblemModule().withStackTraces(), new ConstraintViolationProblemModule())
+                .build();
+        handler = new ProblemExceptionHandler(mapper, new ProblemHandler());
+        problem = Problem.valueOf(Status.BAD_REQUEST);
+        unexpected = new IllegalStateException("unexpected");
+    }
+
+    @Benchmark
+    public Object problem() {
+        return render(problem);
+    }
+
+    @Benchmark
+    public Object unexpectedException() {
+        return render(unexpected);
+    }
+
+    private Object render(final Throwable throwable) {
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/error/400").accept(APPLICATION_JSON));
+        handler.handle(exchange, throwable).block();
+        return exchange;
+    }
+}
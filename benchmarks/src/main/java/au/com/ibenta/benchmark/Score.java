@@ -0,0 +1,16 @@
+package au.com.ibenta.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Score {
+
+    private String name;
+    private String unit;
+    private double value;
+    private boolean higherIsBetter;
+}
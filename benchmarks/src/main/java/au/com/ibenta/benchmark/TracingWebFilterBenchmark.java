@@ -0,0 +1,80 @@
+package au.com.ibenta.benchmark;
+
+import au.com.ibenta.tracing.TracingWebFilter;
+import brave.Span;
+import brave.Tracing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The filter around an empty chain. The mock exchange is created per invocation outside the measurement, so the score
+ * is the filter's own overhead; {@link #emptyChain()} shows the floor left by the per-invocation setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TracingWebFilterBenchmark {
+
+    private final TracingWebFilter filter = new TracingWebFilter();
+    private final WebFilterChain chain = exchange -> Mono.empty();
+    private Tracing tracing;
+    private Span span;
+
+    @Setup
+    public void setUp() {
+        tracing = Tracing.newBuilder().build();
+        span = tracing.tracer().nextSpan().start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        span.abandon();
+        tracing.close();
+    }
+
+    @Benchmark
+    public Object filter(final Exchange exchange) {
+        filter.filter(exchange.exchange, chain).subscriberContext(Context.of(Span.class, span)).block();
+        return exchange.exchange;
+    }
+
+    @Benchmark
+    public Object emptyChain(final Exchange exchange) {
+        chain.filter(exchange.exchange).subscriberContext(Context.of(Span.class, span)).block();
+        return exchange.exchange;
+    }
+
+    /**
+     * A fresh exchange for every invocation, as the filter writes response headers into it.
+     */
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private MockServerWebExchange exchange;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/template/1"));
+        }
+    }
+}
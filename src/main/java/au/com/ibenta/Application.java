@@ -1,5 +1,6 @@
 package au.com.ibenta;
 
+import au.com.ibenta.startup.ExitAfterStartup;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
@@ -43,8 +44,14 @@ public class Application {
         this.buildProperties = buildProperties;
     }
 
-    public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+    public static void main(String[] args) throws InterruptedException {
+        final var context = SpringApplication.run(Application.class, args);
+
+        final var exitAfterStartup = context.getBeanProvider(ExitAfterStartup.class).getIfAvailable();
+        if (exitAfterStartup != null) {
+            exitAfterStartup.awaitStartup();
+            System.exit(SpringApplication.exit(context, exitAfterStartup));
+        }
     }
 
     @Bean
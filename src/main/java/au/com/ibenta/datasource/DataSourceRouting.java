@@ -0,0 +1,36 @@
+package au.com.ibenta.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins read-only work to the primary for callers that need to read their own writes.
+ *
+ * <p>The pin is thread-bound, like the transaction that routing keys off. It covers blocking repository work run
+ * inside {@code work}, but it does not follow a reactive pipeline onto other threads: wrap the blocking call itself,
+ * not the {@code Mono} or {@code Flux} that will eventually run it.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(final Supplier<T> work) {
+        PRIMARY_DEPTH.set(PRIMARY_DEPTH.get() + 1);
+        try {
+            return work.get();
+        } finally {
+            final int depth = PRIMARY_DEPTH.get() - 1;
+            if (depth == 0) {
+                PRIMARY_DEPTH.remove();
+            } else {
+                PRIMARY_DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_DEPTH.get() > 0;
+    }
+}
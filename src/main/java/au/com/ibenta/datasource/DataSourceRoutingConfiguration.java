@@ -0,0 +1,99 @@
+package au.com.ibenta.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static au.com.ibenta.datasource.DataSources.DEFAULT_CHANGE_LOG;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, DataSourceRoutingProperties.class})
+public class DataSourceRoutingConfiguration {
+
+    /**
+     * The primary pool, tuned by {@code spring.datasource.hikari.*} exactly as Spring Boot's own pool would be. Spring
+     * Boot's Liquibase migrates this pool directly rather than through the routing proxy; replicas are migrated below.
+     */
+    @Bean
+    @LiquibaseDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties, final MeterRegistry registry) {
+        final var primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricRegistry(registry);
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    ReplicaRoutingDataSource replicaRoutingDataSource(final HikariDataSource primaryDataSource,
+                                                      final DataSourceRoutingProperties properties,
+                                                      final MeterRegistry registry,
+                                                      final Environment environment,
+                                                      final ResourceLoader resourceLoader,
+                                                      @Value("${spring.liquibase.change-log:" + DEFAULT_CHANGE_LOG + "}")
+                                                      final String changeLog) throws Exception {
+        final var binder = Binder.get(environment);
+        final var replicas = properties.getReplicas();
+        final List<ReplicaTarget> targets = IntStream.range(0, replicas.size())
+                .mapToObj(index -> replicaTarget(replicas.get(index), index, registry, binder))
+                .collect(toList());
+
+        for (final ReplicaTarget target : targets) {
+            Gauge.builder("datasource.replica.healthy", target, replica -> replica.isHealthy() ? 1 : 0)
+                    .tag("target", target.getName())
+                    .register(registry);
+            Gauge.builder("datasource.replica.lag", target, replica -> replica.getLag().toMillis())
+                    .tag("target", target.getName())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+
+            if (properties.isInitializeReplicas()) {
+                DataSources.migrate(target.getDataSource(), resourceLoader, changeLog);
+            }
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, targets, registry);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    ReplicaHealthChecker replicaHealthChecker(final ReplicaRoutingDataSource replicaRoutingDataSource,
+                                              final DataSourceRoutingProperties properties) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource.getReplicas(), properties);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static ReplicaTarget replicaTarget(final DataSourceRoutingProperties.Replica replica,
+                                               final int index,
+                                               final MeterRegistry registry,
+                                               final Binder binder) {
+        final var name = ofNullable(replica.getName()).orElse("replica-" + index);
+        return new ReplicaTarget(name, DataSources.pool(name, replica.getUrl(), replica.getUsername(),
+                replica.getPassword(), replica.getDriverClassName(), registry,
+                binder, "spring.datasource.hikari", "datasource.routing.replicas[" + index + "].hikari"));
+    }
+}
@@ -0,0 +1,55 @@
+package au.com.ibenta.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties("datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replicas.
+     */
+    private boolean enabled;
+
+    /**
+     * Read replicas, used round-robin while healthy. Each pool is tuned by {@code spring.datasource.hikari.*},
+     * overridden per replica by {@code datasource.routing.replicas[n].hikari.*}.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How often replicas are validated and their lag measured.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * Query returning the replica lag in seconds, e.g. for PostgreSQL
+     * {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())}. Lag is not checked when unset.
+     */
+    private String lagQuery;
+
+    /**
+     * Replicas lagging more than this fall back to the primary.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Apply the Liquibase changelog to the replicas, for local replicas that are not fed by replication.
+     */
+    private boolean initializeReplicas;
+
+    @Data
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,57 @@
+package au.com.ibenta.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.io.ResourceLoader;
+
+import javax.sql.DataSource;
+
+public final class DataSources {
+
+    public static final String DEFAULT_CHANGE_LOG = "classpath:/db/changelog/db.changelog-master.yaml";
+
+    private DataSources() {
+    }
+
+    /**
+     * Builds a named Hikari pool reporting to {@code registry}, so each routing target has its own pool metrics, tuned
+     * by binding each of {@code hikariPrefixes} in turn, e.g. {@code spring.datasource.hikari} then a per-target prefix.
+     */
+    public static HikariDataSource pool(final String name,
+                                        final String url,
+                                        final String username,
+                                        final String password,
+                                        final String driverClassName,
+                                        final MeterRegistry registry,
+                                        final Binder binder,
+                                        final String... hikariPrefixes) {
+        final var dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(driverClassName)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        for (final String prefix : hikariPrefixes) {
+            binder.bind(prefix, Bindable.ofInstance(dataSource));
+        }
+        dataSource.setPoolName(name);
+        dataSource.setMetricRegistry(registry);
+        return dataSource;
+    }
+
+    public static void migrate(final DataSource dataSource,
+                               final ResourceLoader resourceLoader,
+                               final String changeLog) throws LiquibaseException {
+        final var liquibase = new SpringLiquibase();
+        liquibase.setResourceLoader(resourceLoader);
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(changeLog);
+        liquibase.afterPropertiesSet();
+    }
+}
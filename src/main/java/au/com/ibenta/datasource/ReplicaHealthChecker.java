@@ -0,0 +1,79 @@
+package au.com.ibenta.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically validates each replica and measures its replication lag, taking it out of rotation when it is
+ * unreachable or lags more than the configured maximum.
+ */
+@Slf4j
+public class ReplicaHealthChecker implements Runnable, AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<ReplicaTarget> replicas;
+    private final DataSourceRoutingProperties properties;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "replica-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaHealthChecker(final List<ReplicaTarget> replicas, final DataSourceRoutingProperties properties) {
+        this.replicas = replicas;
+        this.properties = properties;
+    }
+
+    public void start() {
+        final long interval = properties.getHealthCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        replicas.forEach(this::check);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void check(final ReplicaTarget replica) {
+        boolean healthy;
+        Duration lag = Duration.ZERO;
+
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            if (healthy && properties.getLagQuery() != null) {
+                lag = lagOf(connection);
+                healthy = lag.compareTo(properties.getMaxLag()) <= 0;
+            }
+        } catch (SQLException e) {
+            log.debug("Replica {} health check failed", replica.getName(), e);
+            healthy = false;
+        }
+
+        if (healthy != replica.isHealthy()) {
+            log.warn("Replica {} is now {} (lag {})", replica.getName(), healthy ? "in rotation" : "out of rotation", lag);
+        }
+        replica.update(healthy, lag);
+    }
+
+    private Duration lagOf(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            return resultSet.next() ? Duration.ofMillis((long) (resultSet.getDouble(1) * 1000)) : Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package au.com.ibenta.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Sends read-only transactions to a healthy replica, round-robin, and everything else to the primary.
+ *
+ * <p>The transaction flags are only visible once the transaction has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routed = new HashMap<>();
+
+    public ReplicaRoutingDataSource(final DataSource primary,
+                                    final List<ReplicaTarget> replicas,
+                                    final MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routed.put(PRIMARY, registry.counter("datasource.routing", "target", PRIMARY));
+        this.replicas.forEach(replica -> {
+            targets.put(replica.getName(), replica.getDataSource());
+            routed.put(replica.getName(), registry.counter("datasource.routing", "target", replica.getName()));
+        });
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public List<ReplicaTarget> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final String target = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRouting.isPrimaryPinned() ? nextReplica() : PRIMARY;
+        routed.get(target).increment();
+        return target;
+    }
+
+    private String nextReplica() {
+        final var healthy = replicas.stream().filter(ReplicaTarget::isHealthy).collect(toList());
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).getName();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final ReplicaTarget replica : replicas) {
+            closeIfPossible(replica.getDataSource());
+        }
+        closeIfPossible(primary);
+    }
+
+    private static void closeIfPossible(final DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable) {
+            ((Closeable) dataSource).close();
+        }
+    }
+}
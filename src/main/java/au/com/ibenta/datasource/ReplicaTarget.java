@@ -0,0 +1,38 @@
+package au.com.ibenta.datasource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+public class ReplicaTarget {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaTarget(final String name, final DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    void update(final boolean healthy, final Duration lag) {
+        this.healthy = healthy;
+        this.lag = lag;
+    }
+}
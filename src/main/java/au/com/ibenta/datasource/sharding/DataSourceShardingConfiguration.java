@@ -0,0 +1,101 @@
+package au.com.ibenta.datasource.sharding;
+
+import au.com.ibenta.datasource.DataSources;
+import au.com.ibenta.test.persistence.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static au.com.ibenta.datasource.DataSources.DEFAULT_CHANGE_LOG;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceShardingProperties.class)
+public class DataSourceShardingConfiguration {
+
+    public DataSourceShardingConfiguration(final Environment environment) {
+        if (environment.getProperty("datasource.routing.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("datasource.sharding and datasource.routing both replace the primary DataSource "
+                    + "and cannot be enabled together; disable one of them");
+        }
+    }
+
+    @Bean
+    ShardRouter shardRouter(final DataSourceShardingProperties properties) {
+        return new ShardRouter(properties.getShards().size());
+    }
+
+    @Bean(destroyMethod = "close")
+    ShardRoutingDataSource shardRoutingDataSource(final DataSourceShardingProperties properties,
+                                                  final MeterRegistry registry,
+                                                  final Environment environment) {
+        final var binder = Binder.get(environment);
+        final List<DataSource> shards = new ArrayList<>();
+        for (final DataSourceShardingProperties.Shard shard : properties.getShards()) {
+            shards.add(DataSources.pool("shard-" + shards.size(), shard.getUrl(), shard.getUsername(),
+                    shard.getPassword(), shard.getDriverClassName(), registry,
+                    binder, "spring.datasource.hikari", "datasource.sharding.shards[" + shards.size() + "].hikari"));
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    /**
+     * Replaces Spring Boot's Liquibase bean, which backs off when one exists, so the changelog runs once per shard.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.liquibase", name = "enabled", havingValue = "true", matchIfMissing = true)
+    ShardedLiquibase liquibase(final ShardRoutingDataSource shardRoutingDataSource,
+                               @Value("${spring.liquibase.change-log:" + DEFAULT_CHANGE_LOG + "}")
+                               final String changeLog) {
+        final var liquibase = new ShardedLiquibase(shardRoutingDataSource.getShards());
+        liquibase.setChangeLog(changeLog);
+        return liquibase;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(final ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    ShardedUserRepositoryInterceptor shardedUserRepositoryInterceptor(final ShardRouter shardRouter,
+                                                                      final PlatformTransactionManager transactionManager,
+                                                                      final MeterRegistry registry) {
+        return new ShardedUserRepositoryInterceptor(shardRouter, transactionManager, registry);
+    }
+
+    @Bean
+    static BeanPostProcessor shardedUserRepositoryPostProcessor(
+            final ObjectProvider<ShardedUserRepositoryInterceptor> interceptor) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!(bean instanceof UserRepository)) {
+                    return bean;
+                }
+                final var factory = new ProxyFactory();
+                factory.setTarget(bean);
+                factory.addInterface(UserRepository.class);
+                factory.addAdvice(interceptor.getObject());
+                return factory.getProxy();
+            }
+        };
+    }
+}
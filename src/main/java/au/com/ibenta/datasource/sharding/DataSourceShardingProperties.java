@@ -0,0 +1,33 @@
+package au.com.ibenta.datasource.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties("datasource.sharding")
+public class DataSourceShardingProperties {
+
+    /**
+     * Whether user storage is hash-sharded across the configured shards. Not combinable with
+     * {@code datasource.routing}; startup fails when both are enabled.
+     */
+    private boolean enabled;
+
+    /**
+     * Shard datasources; the position in this list is the shard number encoded into IDs, so only append. Each pool is
+     * tuned by {@code spring.datasource.hikari.*}, overridden per shard by {@code datasource.sharding.shards[n].hikari.*}.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
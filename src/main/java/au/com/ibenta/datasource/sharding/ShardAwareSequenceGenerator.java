@@ -0,0 +1,20 @@
+package au.com.ibenta.datasource.sharding;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.io.Serializable;
+
+/**
+ * Draws from the bound shard's own sequence and encodes the shard into the ID; a plain sequence when not sharded.
+ */
+public class ShardAwareSequenceGenerator extends SequenceStyleGenerator {
+
+    @Override
+    public Serializable generate(final SharedSessionContractImplementor session, final Object object) {
+        final long sequence = ((Number) super.generate(session, object)).longValue();
+        return ShardContext.current()
+                .map(shard -> ShardRouter.encode(sequence, shard))
+                .orElse(sequence);
+    }
+}
@@ -0,0 +1,33 @@
+package au.com.ibenta.datasource.sharding;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Shard the current thread's connections, and newly generated IDs, are bound to.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Optional<Integer> current() {
+        return Optional.ofNullable(SHARD.get());
+    }
+
+    public static <T> T on(final int shard, final Supplier<T> work) {
+        final Integer previous = SHARD.get();
+        SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                SHARD.remove();
+            } else {
+                SHARD.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package au.com.ibenta.datasource.sharding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps IDs to shards. Generated IDs carry their shard in the low {@value #SHARD_BITS} bits, so routing an ID back to
+ * the shard that created it needs no lookup; IDs created elsewhere fall back to a hash of the ID.
+ */
+public class ShardRouter {
+
+    public static final int SHARD_BITS = 10;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final int shardCount;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ShardRouter(final int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard count must be between 1 and " + MAX_SHARDS + " but was " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public static long encode(final long sequence, final int shard) {
+        return (sequence << SHARD_BITS) | shard;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(final Object id) {
+        final long value = ((Number) id).longValue();
+        final int encoded = (int) (value & SHARD_MASK);
+        return encoded < shardCount ? encoded : Math.floorMod(Long.hashCode(value * GOLDEN_RATIO), shardCount);
+    }
+
+    /**
+     * Picks the shard for a new row, round-robin so shards fill evenly.
+     */
+    public int nextShard() {
+        return Math.floorMod(next.getAndIncrement(), shardCount);
+    }
+}
@@ -0,0 +1,28 @@
+package au.com.ibenta.datasource.sharding;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Applies the changelog to every shard. Registered in place of Spring Boot's own {@link SpringLiquibase}, which would
+ * only reach shard 0 through the routing proxy, so each shard is migrated exactly once.
+ */
+public class ShardedLiquibase extends SpringLiquibase {
+
+    private final List<DataSource> shards;
+
+    public ShardedLiquibase(final List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+        for (final DataSource shard : shards) {
+            setDataSource(shard);
+            super.afterPropertiesSet();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package au.com.ibenta.datasource.sharding;
+
+import au.com.ibenta.fields.Fields;
+import au.com.ibenta.test.persistence.UserEntity;
+import au.com.ibenta.test.persistence.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import javax.persistence.EntityNotFoundException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Routes {@link UserRepository} calls to the shard owning the ID, or scatters them across every shard and merges the
+ * results in sort order.
+ *
+ * <p>Every shard call runs in its own {@code REQUIRES_NEW} transaction so it always gets a connection to the right
+ * shard, even when the caller is already transactional. Writes are therefore atomic per shard, never across shards,
+ * and are committed independently of, and before, any transaction the caller has open: {@code saveAll} saves each
+ * shard's users in one transaction, and {@code flush} has nothing to flush because every call has already committed.
+ * {@code getOne} returns the loaded user rather than a lazy reference, which would outlive its transaction.
+ *
+ * <p>Scattered pages fetch {@code offset + size} rows from each shard, so deep pages get proportionally more expensive.
+ * Projections are fetched with the sort properties added to the selection, so they can be merged, and trimmed back to
+ * the requested fields afterwards. Repository methods that can be neither routed nor merged are rejected at startup.
+ */
+public class ShardedUserRepositoryInterceptor implements MethodInterceptor, AutoCloseable {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    /**
+     * Methods routed or merged individually; every other repository method must return an {@link Iterable} to be
+     * scattered and gathered.
+     */
+    private static final Set<String> ROUTED = Set.of("save", "saveAndFlush", "delete", "findById", "existsById",
+            "deleteById", "getOne", "saveAll", "findAllById", "count", "exists", "findOne", "flush", "deleteAll",
+            "deleteInBatch", "deleteAllInBatch");
+
+    private final ShardRouter router;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry registry;
+    private final ExecutorService executor;
+
+    public ShardedUserRepositoryInterceptor(final ShardRouter router,
+                                            final PlatformTransactionManager transactionManager,
+                                            final MeterRegistry registry) {
+        this.router = router;
+        this.transactionManager = transactionManager;
+        this.registry = registry;
+        verifyShardAware(UserRepository.class);
+        this.executor = Executors.newFixedThreadPool(router.getShardCount(), runnable -> {
+            final var thread = new Thread(runnable, "shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Method method = invocation.getMethod();
+        final Object[] args = invocation.getArguments();
+        final var repository = (UserRepository) invocation.getThis();
+        final var name = method.getName();
+
+        if (ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+
+        switch (name) {
+            case "save":
+            case "saveAndFlush":
+            case "delete":
+                return onShard(shardOf((UserEntity) args[0]), name, false, () -> invoke(repository, method, args));
+            case "findById":
+            case "existsById":
+            case "deleteById":
+                return onShard(router.shardOf(args[0]), name, !"deleteById".equals(name), () -> invoke(repository, method, args));
+            case "getOne":
+                return onShard(router.shardOf(args[0]), name, true, () -> repository.findById((Long) args[0])
+                        .orElseThrow(() -> new EntityNotFoundException(format("Unable to find %s with id %s", UserEntity.class.getName(), args[0]))));
+            case "saveAll":
+                return saveAll(repository, (Iterable<UserEntity>) args[0]);
+            case "findAllById":
+                return findAllById(repository, (Iterable<Long>) args[0]);
+            case "count":
+                return scatter(name, () -> (Long) invoke(repository, method, args)).stream().mapToLong(Long::longValue).sum();
+            case "exists":
+                return scatter(name, () -> (Boolean) invoke(repository, method, args)).stream().anyMatch(Boolean::booleanValue);
+            case "findOne":
+                return findOne(repository, method, args);
+            case "flush":
+                return null;
+            case "deleteAll":
+            case "deleteInBatch":
+            case "deleteAllInBatch":
+                return broadcast(repository, method, args);
+            default:
+                return scatterGather(repository, method, args);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private int shardOf(final UserEntity user) {
+        return user.getId() == null ? router.nextShard() : router.shardOf(user.getId());
+    }
+
+    private List<UserEntity> saveAll(final UserRepository repository, final Iterable<UserEntity> users) {
+        final List<UserEntity> input = stream(users).collect(toList());
+        final Map<Integer, List<UserEntity>> byShard = input.stream()
+                .collect(groupingBy(this::shardOf, LinkedHashMap::new, toList()));
+
+        final Map<UserEntity, UserEntity> saved = new IdentityHashMap<>();
+        byShard.forEach((shard, shardUsers) -> {
+            final List<UserEntity> result = onShard(shard, "saveAll", false, () -> repository.saveAll(shardUsers));
+            IntStream.range(0, shardUsers.size()).forEach(index -> saved.put(shardUsers.get(index), result.get(index)));
+        });
+        return input.stream().map(saved::get).collect(toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Object> findOne(final UserRepository repository, final Method method, final Object[] args) {
+        final List<Object> found = scatter(method.getName(), () -> (Optional<Object>) invoke(repository, method, args)).stream()
+                .flatMap(Optional::stream)
+                .collect(toList());
+        if (found.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, found.size());
+        }
+        return found.stream().findFirst();
+    }
+
+    private Object findAllById(final UserRepository repository, final Iterable<Long> ids) {
+        final Map<Integer, List<Long>> byShard = stream(ids).collect(groupingBy(router::shardOf));
+        final List<UserEntity> users = new ArrayList<>();
+        byShard.forEach((shard, shardIds) -> users.addAll(onShard(shard, "findAllById", true, () -> repository.findAllById(shardIds))));
+        return users;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object broadcast(final UserRepository repository, final Method method, final Object[] args) {
+        if (args.length == 1) {
+            stream((Iterable<UserEntity>) args[0])
+                    .forEach(user -> onShard(router.shardOf(user.getId()), method.getName(), false, () -> {
+                        repository.delete(user);
+                        return null;
+                    }));
+            return null;
+        }
+
+        IntStream.range(0, router.getShardCount())
+                .forEach(shard -> onShard(shard, method.getName(), false, () -> invoke(repository, method, args)));
+        return null;
+    }
+
+    private Object scatterGather(final UserRepository repository, final Method method, final Object[] args) {
+        final var shardArgs = args.clone();
+        Pageable pageable = Pageable.unpaged();
+        Sort sort = BY_ID;
+        Fields fields = null;
+        int fieldsIndex = -1;
+        for (int index = 0; index < args.length; index++) {
+            if (args[index] instanceof Pageable) {
+                pageable = (Pageable) args[index];
+                sort = pageable.getSort().isSorted() ? pageable.getSort() : BY_ID;
+                if (pageable.isPaged()) {
+                    final long perShard = pageable.getOffset() + pageable.getPageSize();
+                    if (perShard > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException(format("Page %d of size %d is too deep to gather across shards",
+                                pageable.getPageNumber(), pageable.getPageSize()));
+                    }
+                    shardArgs[index] = PageRequest.of(0, (int) perShard, sort);
+                }
+            } else if (args[index] instanceof Sort && ((Sort) args[index]).isSorted()) {
+                sort = (Sort) args[index];
+            } else if (args[index] instanceof Fields) {
+                fields = (Fields) args[index];
+                fieldsIndex = index;
+            }
+        }
+
+        // projections must carry the sort properties, or every merge key would be null
+        if (fields != null) {
+            final Set<String> selected = new LinkedHashSet<>(fields.getNames());
+            sort.forEach(order -> selected.add(order.getProperty()));
+            shardArgs[fieldsIndex] = Fields.all(selected);
+        }
+
+        final var results = scatter(method.getName(), () -> invoke(repository, method, shardArgs));
+        final var merged = results.stream()
+                .<Object>flatMap(result -> stream((Iterable<?>) result))
+                .sorted(comparator(sort));
+        final var requested = fields;
+        final List<Object> content = (pageable.isPaged()
+                ? merged.skip(pageable.getOffset()).limit(pageable.getPageSize())
+                : merged)
+                .map(value -> requested == null ? value : select((Map<?, ?>) value, requested))
+                .collect(toList());
+
+        if (Page.class.isAssignableFrom(method.getReturnType())) {
+            final long total = results.stream().mapToLong(result -> ((Page<?>) result).getTotalElements()).sum();
+            return new PageImpl<>(content, pageable, total);
+        }
+        return content;
+    }
+
+    private static Map<String, Object> select(final Map<?, ?> row, final Fields fields) {
+        final Map<String, Object> selected = new LinkedHashMap<>();
+        fields.getNames().forEach(name -> selected.put(name, row.get(name)));
+        return selected;
+    }
+
+    private <T> List<T> scatter(final String operation, final Supplier<T> work) {
+        final List<CompletableFuture<T>> futures = IntStream.range(0, router.getShardCount())
+                .mapToObj(shard -> CompletableFuture.supplyAsync(() -> onShard(shard, operation, true, work), executor))
+                .collect(toList());
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(toList());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private <T> T onShard(final int shard, final String operation, final boolean readOnly, final Supplier<T> work) {
+        final var transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(readOnly);
+
+        return Timer.builder("user.shard.operations")
+                .tag("shard", String.valueOf(shard))
+                .tag("operation", operation)
+                .register(registry)
+                .record(() -> ShardContext.on(shard, () -> transaction.execute(status -> work.get())));
+    }
+
+    private static void verifyShardAware(final Class<?> repositoryInterface) {
+        Arrays.stream(repositoryInterface.getMethods())
+                .filter(method -> !ROUTED.contains(method.getName()) && !Iterable.class.isAssignableFrom(method.getReturnType()))
+                .findFirst()
+                .ifPresent(method -> {
+                    throw new UnsupportedOperationException(format("%s.%s is not shard-aware",
+                            repositoryInterface.getSimpleName(), method.getName()));
+                });
+    }
+
+    private static Object invoke(final UserRepository repository, final Method method, final Object[] args) {
+        return ReflectionUtils.invokeMethod(method, repository, args);
+    }
+
+    private static <T> Stream<T> stream(final Iterable<T> iterable) {
+        if (iterable instanceof Slice) {
+            return ((Slice<T>) iterable).getContent().stream();
+        }
+        if (iterable instanceof Collection) {
+            return ((Collection<T>) iterable).stream();
+        }
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+
+    private static Comparator<Object> comparator(final Sort sort) {
+        Comparator<Object> comparator = (left, right) -> 0;
+        for (final Sort.Order order : sort) {
+            final Comparator<Object> byProperty = Comparator.<Object, Comparable<Object>>comparing(
+                    value -> property(value, order.getProperty()),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> property(final Object value, final String property) {
+        return (Comparable<Object>) (value instanceof Map
+                ? ((Map<?, ?>) value).get(property)
+                : new BeanWrapperImpl(value).getPropertyValue(property));
+    }
+}
@@ -0,0 +1,106 @@
+package au.com.ibenta.fields;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Sparse fieldset requested through the {@value #FIELDS_PARAMETER} query parameter.
+ */
+@ToString
+@EqualsAndHashCode
+public final class Fields {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private static final Map<Class<?>, Map<String, Method>> READERS = new ConcurrentHashMap<>();
+
+    private final Set<String> names;
+
+    private Fields(final Set<String> names) {
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    public static Fields all(final Collection<String> allowed) {
+        return new Fields(new LinkedHashSet<>(allowed));
+    }
+
+    /**
+     * Parses a comma separated list of field names, rejecting any name that is not in {@code allowed}.
+     */
+    public static Fields parse(final String fields, final Collection<String> allowed) {
+        if (!hasText(fields)) {
+            return all(allowed);
+        }
+
+        final var requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(toCollection(LinkedHashSet::new));
+
+        return requested.isEmpty() ? all(allowed) : new Fields(requested).requireAllowed(allowed);
+    }
+
+    /**
+     * Rejects the selection with an {@link UnknownFieldsProblem} unless every name is in {@code allowed}.
+     */
+    public Fields requireAllowed(final Collection<String> allowed) {
+        final var unknown = names.stream()
+                .filter(name -> !allowed.contains(name))
+                .collect(toCollection(LinkedHashSet::new));
+
+        if (!unknown.isEmpty()) {
+            throw new UnknownFieldsProblem(unknown, allowed);
+        }
+        return this;
+    }
+
+    public Set<String> getNames() {
+        return names;
+    }
+
+    public boolean contains(final String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * Copies only the selected properties of {@code source}, in request order, so the rest are never serialised.
+     */
+    public Map<String, Object> project(final Object source) {
+        final var readers = READERS.computeIfAbsent(source.getClass(), Fields::readers);
+        final var projection = new LinkedHashMap<String, Object>();
+        names.forEach(name -> projection.put(name, ReflectionUtils.invokeMethod(reader(readers, source, name), source)));
+        return projection;
+    }
+
+    private static Method reader(final Map<String, Method> readers, final Object source, final String name) {
+        final var reader = readers.get(name);
+        if (reader == null) {
+            throw new IllegalArgumentException(format("%s has no readable property %s", source.getClass().getName(), name));
+        }
+        return reader;
+    }
+
+    private static Map<String, Method> readers(final Class<?> type) {
+        return Arrays.stream(BeanUtils.getPropertyDescriptors(type))
+                .filter(descriptor -> descriptor.getReadMethod() != null)
+                .collect(toMap(PropertyDescriptor::getName, PropertyDescriptor::getReadMethod));
+    }
+}
@@ -0,0 +1,14 @@
+package au.com.ibenta.fields;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+@Configuration
+public class FieldsConfiguration implements WebFluxConfigurer {
+
+    @Override
+    public void configureArgumentResolvers(final ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new FieldsResolverSupport());
+    }
+}
@@ -0,0 +1,20 @@
+package au.com.ibenta.fields;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the type whose fields may be selected by a {@link Fields} handler argument.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldsOf {
+
+    Class<?> value();
+
+    String[] exclude() default {};
+}
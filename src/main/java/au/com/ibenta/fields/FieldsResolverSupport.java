@@ -0,0 +1,54 @@
+package au.com.ibenta.fields;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolverSupport;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static au.com.ibenta.fields.Fields.FIELDS_PARAMETER;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+public class FieldsResolverSupport extends HandlerMethodArgumentResolverSupport {
+
+    private final Map<MethodParameter, List<String>> allowedFields = new ConcurrentHashMap<>();
+
+    public FieldsResolverSupport() {
+        super(ReactiveAdapterRegistry.getSharedInstance());
+    }
+
+    @Override
+    public boolean supportsParameter(final MethodParameter parameter) {
+        return checkParameterTypeNoReactiveWrapper(parameter, Fields.class::equals)
+                && parameter.hasParameterAnnotation(FieldsOf.class);
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(final MethodParameter parameter,
+                                        final BindingContext bindingContext,
+                                        final ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> Fields.parse(
+                exchange.getRequest().getQueryParams().getFirst(FIELDS_PARAMETER),
+                allowedFields.computeIfAbsent(parameter, FieldsResolverSupport::allowedFieldsOf)));
+    }
+
+    private static List<String> allowedFieldsOf(final MethodParameter parameter) {
+        final FieldsOf fieldsOf = parameter.getParameterAnnotation(FieldsOf.class);
+        final Set<String> excluded = Arrays.stream(fieldsOf.exclude()).collect(toSet());
+        return Arrays.stream(fieldsOf.value().getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .map(Field::getName)
+                .filter(name -> !excluded.contains(name))
+                .collect(toList());
+    }
+}
@@ -0,0 +1,23 @@
+package au.com.ibenta.fields;
+
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.Status;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.lang.String.join;
+
+public class UnknownFieldsProblem extends AbstractThrowableProblem {
+
+    UnknownFieldsProblem(final Collection<String> unknown, final Collection<String> allowed) {
+        super(null,
+                "Unknown Fields",
+                Status.BAD_REQUEST,
+                format("Unknown field(s) [%s], allowed fields are [%s]", join(",", unknown), join(",", allowed)),
+                null,
+                null,
+                Map.of("unknown", unknown, "allowed", allowed));
+    }
+}
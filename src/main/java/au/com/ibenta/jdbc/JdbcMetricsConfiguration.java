@@ -0,0 +1,59 @@
+package au.com.ibenta.jdbc;
+
+import brave.Tracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@code dataSource} with datasource-proxy. Connection acquire time is already published by
+ * Hikari as {@code hikaricp.connections.acquire} for every pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jdbc.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(JdbcMetricsProperties.class)
+public class JdbcMetricsConfiguration {
+
+    private static final String DATA_SOURCE = "dataSource";
+
+    @Bean
+    RepeatedSelectDetector repeatedSelectDetector(final JdbcMetricsProperties properties, final MeterRegistry registry) {
+        return new RepeatedSelectDetector(properties.getRepeatedSelectThreshold(), registry);
+    }
+
+    @Bean
+    RepeatedSelectWebFilter repeatedSelectWebFilter(final RepeatedSelectDetector repeatedSelectDetector) {
+        return new RepeatedSelectWebFilter(repeatedSelectDetector);
+    }
+
+    @Bean
+    JdbcMetricsListener jdbcMetricsListener(final JdbcMetricsProperties properties,
+                                            final RepeatedSelectDetector repeatedSelectDetector,
+                                            final MeterRegistry registry,
+                                            final ObjectProvider<Tracer> tracer) {
+        return new JdbcMetricsListener(properties, repeatedSelectDetector, registry, tracer);
+    }
+
+    @Bean
+    static BeanPostProcessor jdbcMetricsDataSourcePostProcessor(final ObjectProvider<JdbcMetricsListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!DATA_SOURCE.equals(beanName) || !(bean instanceof DataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create((DataSource) bean)
+                        .name(beanName)
+                        .listener(listener.getObject())
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package au.com.ibenta.jdbc;
+
+import brave.Span;
+import brave.Tracer;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Times statements per normalised shape, with a bounded latency histogram, feeds selects to the N+1 detector and logs
+ * slow queries.
+ *
+ * <p>Statements run on whichever thread the blocking repository call was scheduled on, where the request's MDC is
+ * usually absent; the trace ID comes from the current span, which Sleuth carries across Reactor threads, and is the
+ * link back to the request.
+ */
+@Slf4j
+public class JdbcMetricsListener implements QueryExecutionListener {
+
+    /**
+     * Fixed histogram buckets rather than a percentile histogram, which would add dozens of series per statement shape.
+     */
+    private static final Duration[] LATENCY_BUCKETS = LongStream.of(1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500)
+            .mapToObj(Duration::ofMillis)
+            .toArray(Duration[]::new);
+
+    private final JdbcMetricsProperties properties;
+    private final StatementShapes shapes;
+    private final RepeatedSelectDetector repeatedSelectDetector;
+    private final MeterRegistry registry;
+    private final ObjectProvider<Tracer> tracer;
+
+    public JdbcMetricsListener(final JdbcMetricsProperties properties,
+                               final RepeatedSelectDetector repeatedSelectDetector,
+                               final MeterRegistry registry,
+                               final ObjectProvider<Tracer> tracer) {
+        this.properties = properties;
+        this.shapes = new StatementShapes(properties.getMaxStatementShapes());
+        this.repeatedSelectDetector = repeatedSelectDetector;
+        this.registry = registry;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final long elapsed = execInfo.getElapsedTime();
+        final Optional<String> traceId = currentTraceId();
+
+        for (final QueryInfo queryInfo : queryInfoList) {
+            final String shape = shapes.shapeOf(queryInfo.getQuery());
+            final String type = StatementShapes.typeOf(shape);
+
+            Timer.builder("jdbc.statements")
+                    .description("Statement execution time per statement shape")
+                    .tag("type", type)
+                    .tag("statement", shape)
+                    .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                    .sla(LATENCY_BUCKETS)
+                    .register(registry)
+                    .record(elapsed, TimeUnit.MILLISECONDS);
+
+            rowsAffected(execInfo.getResult()).ifPresent(rows -> DistributionSummary.builder("jdbc.statements.rows")
+                    .tag("type", type)
+                    .tag("statement", shape)
+                    .register(registry)
+                    .record(rows));
+
+            if ("select".equals(type)) {
+                traceId.ifPresent(id -> repeatedSelectDetector.record(id, shape));
+            }
+        }
+
+        if (elapsed >= properties.getSlowQueryThreshold().toMillis()) {
+            log.warn("Slow query took {} ms [traceId={}]: {}",
+                    elapsed,
+                    traceId.orElse("none"),
+                    queryInfoList.stream().map(QueryInfo::getQuery).reduce((left, right) -> left + "; " + right).orElse(""));
+        }
+    }
+
+    private Optional<String> currentTraceId() {
+        return Optional.ofNullable(tracer.getIfAvailable())
+                .map(Tracer::currentSpan)
+                .map(Span::context)
+                .map(TraceContext::traceIdString);
+    }
+
+    private static Optional<Long> rowsAffected(final Object result) {
+        if (result instanceof Integer) {
+            return Optional.of(((Integer) result).longValue());
+        }
+        if (result instanceof int[]) {
+            return Optional.of((long) Arrays.stream((int[]) result).filter(rows -> rows > 0).sum());
+        }
+        return Optional.empty();
+    }
+}
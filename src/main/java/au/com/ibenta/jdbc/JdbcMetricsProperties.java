@@ -0,0 +1,31 @@
+package au.com.ibenta.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("jdbc.metrics")
+public class JdbcMetricsProperties {
+
+    /**
+     * Whether statements run through the primary datasource are instrumented.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Statements taking at least this long are logged with their trace ID.
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(500);
+
+    /**
+     * Number of times one select shape may run within a single request before it is reported as N+1.
+     */
+    private int repeatedSelectThreshold = 10;
+
+    /**
+     * Upper bound on distinct statement shapes tagged in metrics; further shapes are tagged as "other".
+     */
+    private int maxStatementShapes = 200;
+}
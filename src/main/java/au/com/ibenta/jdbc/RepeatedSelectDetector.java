@@ -0,0 +1,50 @@
+package au.com.ibenta.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts select executions per statement shape within a trace and reports shapes that repeat past the threshold, the
+ * usual signature of lazily loaded associations fetched one row at a time.
+ */
+@Slf4j
+public class RepeatedSelectDetector {
+
+    private static final int MAX_TRACKED_TRACES = 1024;
+
+    private final int threshold;
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, Integer>> traces = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Map<String, Integer>> eldest) {
+            return size() > MAX_TRACKED_TRACES;
+        }
+    };
+
+    public RepeatedSelectDetector(final int threshold, final MeterRegistry registry) {
+        this.threshold = threshold;
+        this.registry = registry;
+    }
+
+    public void record(final String traceId, final String shape) {
+        final int count;
+        synchronized (traces) {
+            count = traces.computeIfAbsent(traceId, id -> new HashMap<>()).merge(shape, 1, Integer::sum);
+        }
+
+        if (count == threshold) {
+            log.warn("Possible N+1 select in trace {}: statement ran {} times: {}", traceId, count, shape);
+            registry.counter("jdbc.n_plus_one", "statement", shape).increment();
+        }
+    }
+
+    public void complete(final String traceId) {
+        synchronized (traces) {
+            traces.remove(traceId);
+        }
+    }
+}
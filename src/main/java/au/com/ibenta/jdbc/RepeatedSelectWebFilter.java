@@ -0,0 +1,28 @@
+package au.com.ibenta.jdbc;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import static au.com.ibenta.tracing.TracingWebFilter.X_B3_TRACE_ID;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Releases the per-trace statement counts once the request that produced them has finished.
+ */
+public class RepeatedSelectWebFilter implements WebFilter {
+
+    private final RepeatedSelectDetector detector;
+
+    public RepeatedSelectWebFilter(final RepeatedSelectDetector detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        return chain.filter(exchange)
+                .doFinally(signal -> ofNullable(exchange.getResponse().getHeaders().getFirst(X_B3_TRACE_ID))
+                        .ifPresent(detector::complete));
+    }
+}
@@ -0,0 +1,43 @@
+package au.com.ibenta.jdbc;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to its shape, with literals and whitespace normalised, so executions of the same statement aggregate
+ * under one metric tag.
+ */
+public class StatementShapes {
+
+    static final String OTHER = "other";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxShapes;
+    private final Set<String> shapes = ConcurrentHashMap.newKeySet();
+
+    public StatementShapes(final int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    public String shapeOf(final String sql) {
+        var shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+
+        if (shapes.contains(shape) || shapes.size() < maxShapes && shapes.add(shape)) {
+            return shape;
+        }
+        return OTHER;
+    }
+
+    static String typeOf(final String shape) {
+        final int end = shape.indexOf(' ');
+        return (end < 0 ? shape : shape.substring(0, end)).toLowerCase();
+    }
+}
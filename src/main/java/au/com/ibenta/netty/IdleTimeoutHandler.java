@@ -0,0 +1,23 @@
+package au.com.ibenta.netty;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes a connection once it has neither read nor written for the idle timeout.
+ */
+class IdleTimeoutHandler extends IdleStateHandler {
+
+    IdleTimeoutHandler(final Duration timeout) {
+        super(0, 0, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void channelIdle(final ChannelHandlerContext ctx, final IdleStateEvent evt) {
+        ctx.close();
+    }
+}
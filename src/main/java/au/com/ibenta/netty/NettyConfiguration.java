@@ -0,0 +1,88 @@
+package au.com.ibenta.netty;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.LoopResources;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Event loops, transport, buffer allocator and protocols of the embedded Reactor Netty server, so they can be sized
+ * per deployment. Spring Boot's {@code server.connection-timeout} only sets the connect timeout option, which has no
+ * effect on accepted connections; idle connections are closed by {@code netty.idle-timeout} instead.
+ */
+@Configuration
+@EnableConfigurationProperties(NettyProperties.class)
+public class NettyConfiguration {
+
+    @Bean
+    ReactorResourceFactory reactorResourceFactory(final NettyProperties properties) {
+        final var factory = new ReactorResourceFactory();
+        factory.setUseGlobalResources(false);
+        factory.setLoopResourcesSupplier(() -> {
+            final int workerThreads = ofNullable(properties.getWorkerThreads()).orElse(LoopResources.DEFAULT_IO_WORKER_COUNT);
+            return properties.getSelectThreads() == null
+                    ? LoopResources.create("http", workerThreads, true)
+                    : LoopResources.create("http", properties.getSelectThreads(), workerThreads, true);
+        });
+        return factory;
+    }
+
+    @Bean
+    ByteBufAllocator nettyByteBufAllocator(final NettyProperties properties) {
+        final var allocator = properties.getAllocator();
+        if (!allocator.isPooled()) {
+            return new UnpooledByteBufAllocator(allocator.isPreferDirect());
+        }
+
+        return new PooledByteBufAllocator(allocator.isPreferDirect(),
+                ofNullable(allocator.getHeapArenas()).orElse(PooledByteBufAllocator.defaultNumHeapArena()),
+                ofNullable(allocator.getDirectArenas()).orElse(PooledByteBufAllocator.defaultNumDirectArena()),
+                PooledByteBufAllocator.defaultPageSize(),
+                ofNullable(allocator.getMaxOrder()).orElse(PooledByteBufAllocator.defaultMaxOrder()),
+                PooledByteBufAllocator.defaultTinyCacheSize(),
+                PooledByteBufAllocator.defaultSmallCacheSize(),
+                PooledByteBufAllocator.defaultNormalCacheSize(),
+                PooledByteBufAllocator.defaultUseCacheForAllThreads());
+    }
+
+    @Bean
+    NettyMetrics nettyMetrics(final MeterRegistry registry,
+                              final ReactorResourceFactory reactorResourceFactory,
+                              final ByteBufAllocator nettyByteBufAllocator,
+                              final NettyProperties properties) {
+        return new NettyMetrics(registry,
+                reactorResourceFactory.getLoopResources().onServer(properties.isNativeTransport()),
+                (ByteBufAllocatorMetricProvider) nettyByteBufAllocator);
+    }
+
+    @Bean
+    WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyServerCustomizer(final NettyProperties properties,
+                                                                                     final ReactorResourceFactory reactorResourceFactory,
+                                                                                     final ByteBufAllocator nettyByteBufAllocator,
+                                                                                     final NettyMetrics nettyMetrics) {
+        return factory -> factory.addServerCustomizers(server -> {
+            final var customized = server.tcpConfiguration(tcp -> tcp
+                    .runOn(reactorResourceFactory.getLoopResources(), properties.isNativeTransport())
+                    .option(ChannelOption.ALLOCATOR, nettyByteBufAllocator)
+                    .doOnConnection(connection -> {
+                        nettyMetrics.connected(connection);
+                        if (properties.getIdleTimeout() != null) {
+                            connection.channel().pipeline().addFirst(new IdleTimeoutHandler(properties.getIdleTimeout()));
+                        }
+                    }));
+            return properties.isH2c() ? customized.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C) : customized;
+        });
+    }
+}
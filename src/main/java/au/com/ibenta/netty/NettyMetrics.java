@@ -0,0 +1,56 @@
+package au.com.ibenta.netty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import reactor.netty.Connection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open server connections, tasks queued on each event loop and memory held by the buffer allocator.
+ */
+public class NettyMetrics {
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter accepted;
+
+    public NettyMetrics(final MeterRegistry registry, final EventLoopGroup eventLoops, final ByteBufAllocatorMetricProvider allocator) {
+        registry.gauge("netty.server.connections", connections);
+        accepted = registry.counter("netty.server.connections.accepted");
+
+        int index = 0;
+        for (final var executor : eventLoops) {
+            if (executor instanceof SingleThreadEventExecutor) {
+                Gauge.builder("netty.eventloop.pending.tasks", (SingleThreadEventExecutor) executor, SingleThreadEventExecutor::pendingTasks)
+                        .tag("loop", String.valueOf(index++))
+                        .register(registry);
+            }
+        }
+
+        final ByteBufAllocatorMetric metric = allocator.metric();
+        Gauge.builder("netty.allocator.memory.used", metric, ByteBufAllocatorMetric::usedHeapMemory)
+                .baseUnit("bytes")
+                .tag("area", "heap")
+                .register(registry);
+        Gauge.builder("netty.allocator.memory.used", metric, ByteBufAllocatorMetric::usedDirectMemory)
+                .baseUnit("bytes")
+                .tag("area", "direct")
+                .register(registry);
+        if (metric instanceof PooledByteBufAllocatorMetric) {
+            Gauge.builder("netty.allocator.thread.caches", (PooledByteBufAllocatorMetric) metric, PooledByteBufAllocatorMetric::numThreadLocalCaches)
+                    .register(registry);
+        }
+    }
+
+    void connected(final Connection connection) {
+        accepted.increment();
+        connections.incrementAndGet();
+        connection.onDispose(connections::decrementAndGet);
+    }
+}
@@ -0,0 +1,65 @@
+package au.com.ibenta.netty;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("netty")
+public class NettyProperties {
+
+    /**
+     * Threads accepting connections; when unset the worker threads accept connections too.
+     */
+    private Integer selectThreads;
+
+    /**
+     * Event-loop threads handling requests; defaults to the number of available processors, but at least 4.
+     */
+    private Integer workerThreads;
+
+    /**
+     * Whether the native epoll transport is used when available instead of NIO.
+     */
+    private boolean nativeTransport = true;
+
+    /**
+     * Connections with neither reads nor writes for this long are closed, including idle event streams; unset to keep
+     * connections open.
+     */
+    private Duration idleTimeout;
+
+    /**
+     * Whether HTTP/2 over cleartext is accepted alongside HTTP/1.1, for internal clients that do not go through TLS.
+     */
+    private boolean h2c;
+
+    private Allocator allocator = new Allocator();
+
+    @Data
+    public static class Allocator {
+
+        /**
+         * Whether buffers are pooled; unpooled buffers trade throughput for a smaller resident footprint.
+         */
+        private boolean pooled = true;
+
+        private boolean preferDirect = true;
+
+        /**
+         * Pool arenas for heap buffers; defaults to twice the processors, bounded by the heap size.
+         */
+        private Integer heapArenas;
+
+        /**
+         * Pool arenas for direct buffers; defaults to twice the processors, bounded by the direct memory size.
+         */
+        private Integer directArenas;
+
+        /**
+         * Chunk size as a power of two multiple of the 8KiB page size; defaults to 11, or 16MiB chunks.
+         */
+        private Integer maxOrder;
+    }
+}
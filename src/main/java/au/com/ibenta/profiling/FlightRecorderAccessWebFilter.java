@@ -0,0 +1,48 @@
+package au.com.ibenta.profiling;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.zalando.problem.Problem;
+import org.zalando.problem.Status;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Requires {@code Authorization: Bearer <profiling.token>} on the jfr actuator endpoint, so it can stay on the
+ * application port next to the health probes and the Prometheus scrape instead of moving the management server.
+ */
+public class FlightRecorderAccessWebFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final String endpointPath;
+    private final byte[] token;
+
+    public FlightRecorderAccessWebFilter(final String actuatorBasePath, final String token) {
+        this.endpointPath = actuatorBasePath + "/jfr";
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        final var path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (!path.equals(endpointPath) && !path.startsWith(endpointPath + "/")) {
+            return chain.filter(exchange);
+        }
+
+        final var presented = ofNullable(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .filter(header -> header.startsWith(BEARER))
+                .map(header -> header.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8))
+                .orElse(new byte[0]);
+
+        return MessageDigest.isEqual(presented, token)
+                ? chain.filter(exchange)
+                : Mono.error(Problem.valueOf(Status.UNAUTHORIZED));
+    }
+}
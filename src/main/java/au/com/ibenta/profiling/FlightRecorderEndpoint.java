@@ -0,0 +1,61 @@
+package au.com.ibenta.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.springframework.boot.actuate.endpoint.web.WebEndpointResponse.STATUS_NOT_FOUND;
+
+/**
+ * Starts, stops and downloads flight recordings: {@code POST /actuator/jfr} with a {@code profile} and optional
+ * {@code duration}, {@code DELETE /actuator/jfr/{id}} to stop early and {@code GET /actuator/jfr/{id}} for the file.
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private final FlightRecordings recordings;
+
+    public FlightRecorderEndpoint(final FlightRecordings recordings) {
+        this.recordings = recordings;
+    }
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        return recordings.list();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingInfo> start(final RecordingProfile profile, @Nullable final Duration duration) {
+        return recordings.start(profile, duration)
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(HttpStatus.CONFLICT.value()));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<RecordingInfo> stop(@Selector final long id) {
+        return recordings.stop(id)
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Resource> recording(@Selector final long id) {
+        if (recordings.find(id).isEmpty()) {
+            return new WebEndpointResponse<>(STATUS_NOT_FOUND);
+        }
+
+        return recordings.file(id)
+                .<WebEndpointResponse<Resource>>map(file -> new WebEndpointResponse<>(new FileSystemResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(HttpStatus.CONFLICT.value()));
+    }
+}
@@ -0,0 +1,136 @@
+package au.com.ibenta.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Bounded, on-demand flight recordings: one runs at a time, each is capped in length and size, and only the most
+ * recent few are kept on disk.
+ */
+@Slf4j
+public class FlightRecordings implements DisposableBean {
+
+    private final ProfilingProperties properties;
+    private final Map<Long, Entry> recordings = new LinkedHashMap<>();
+
+    public FlightRecordings(final ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Starts a recording, or returns empty if one is already running.
+     */
+    public synchronized Optional<RecordingInfo> start(final RecordingProfile profile, final Duration duration) {
+        if (recordings.values().stream().anyMatch(Entry::isRunning)) {
+            return Optional.empty();
+        }
+        evict(properties.getRetained() - 1);
+
+        final var recording = new Recording(profile.settings());
+        recording.setName("profiling-" + profile.name().toLowerCase());
+        recording.setToDisk(true);
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setDuration(capped(duration == null ? properties.getDefaultDuration() : duration));
+        try {
+            Files.createDirectories(properties.getDirectory().toPath());
+            recording.setDestination(properties.getDirectory().toPath().resolve("recording-" + recording.getId() + ".jfr"));
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+
+        recording.start();
+        log.info("Started {} flight recording {} for {}", profile, recording.getId(), recording.getDuration());
+        final var entry = new Entry(profile, recording);
+        recordings.put(recording.getId(), entry);
+        return Optional.of(entry.info());
+    }
+
+    public synchronized Optional<RecordingInfo> stop(final long id) {
+        return Optional.ofNullable(recordings.get(id)).map(entry -> {
+            if (entry.isRunning()) {
+                entry.recording.stop();
+            }
+            return entry.info();
+        });
+    }
+
+    public synchronized Optional<RecordingInfo> find(final long id) {
+        return Optional.ofNullable(recordings.get(id)).map(Entry::info);
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        return recordings.values().stream().map(Entry::info).collect(toList());
+    }
+
+    /**
+     * The recording file, once the recording has stopped and been written.
+     */
+    public synchronized Optional<Path> file(final long id) {
+        return Optional.ofNullable(recordings.get(id))
+                .filter(entry -> entry.recording.getState() == RecordingState.STOPPED || entry.recording.getState() == RecordingState.CLOSED)
+                .map(entry -> entry.recording.getDestination())
+                .filter(Files::isReadable);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        evict(0);
+    }
+
+    private Duration capped(final Duration duration) {
+        return duration.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : duration;
+    }
+
+    private void evict(final int keep) {
+        final var iterator = recordings.values().iterator();
+        int remaining = recordings.size();
+        while (remaining > keep && iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (entry.isRunning() && keep > 0) {
+                continue;
+            }
+            entry.recording.close();
+            try {
+                Files.deleteIfExists(entry.recording.getDestination());
+            } catch (IOException e) {
+                log.warn("Could not delete flight recording {}", entry.recording.getDestination(), e);
+            }
+            iterator.remove();
+            remaining--;
+        }
+    }
+
+    private static final class Entry {
+
+        private final RecordingProfile profile;
+        private final Recording recording;
+
+        private Entry(final RecordingProfile profile, final Recording recording) {
+            this.profile = profile;
+            this.recording = recording;
+        }
+
+        private boolean isRunning() {
+            return recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED;
+        }
+
+        private RecordingInfo info() {
+            return RecordingInfo.of(profile, recording);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package au.com.ibenta.profiling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.springframework.util.StringUtils.hasText;
+
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "profiling", name = "enabled", havingValue = "true")
+    FlightRecordings flightRecordings(final ProfilingProperties properties) {
+        return new FlightRecordings(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "profiling", name = "enabled", havingValue = "true")
+    FlightRecorderEndpoint flightRecorderEndpoint(final FlightRecordings flightRecordings) {
+        return new FlightRecorderEndpoint(flightRecordings);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "profiling", name = "enabled", havingValue = "true")
+    FlightRecorderAccessWebFilter flightRecorderAccessWebFilter(final ProfilingProperties properties,
+                                                                final WebEndpointProperties webEndpointProperties) {
+        if (!hasText(properties.getToken())) {
+            throw new IllegalStateException("profiling.enabled requires profiling.token to protect the jfr endpoint");
+        }
+        return new FlightRecorderAccessWebFilter(webEndpointProperties.getBasePath(), properties.getToken());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "profiling", name = "route-allocation", havingValue = "true", matchIfMissing = true)
+    RouteAllocationWebFilter routeAllocationWebFilter(final MeterRegistry registry) {
+        return new RouteAllocationWebFilter(registry);
+    }
+}
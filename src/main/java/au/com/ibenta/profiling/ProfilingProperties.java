@@ -0,0 +1,53 @@
+package au.com.ibenta.profiling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties("profiling")
+public class ProfilingProperties {
+
+    /**
+     * Whether flight recordings can be started through the jfr actuator endpoint; requires {@link #token}.
+     */
+    private boolean enabled;
+
+    /**
+     * Bearer token every call to the jfr actuator endpoint must present.
+     */
+    private String token;
+
+    /**
+     * Whether the bytes allocated by synchronously handled requests are recorded per route.
+     */
+    private boolean routeAllocation = true;
+
+    /**
+     * Length of a recording when none is requested.
+     */
+    private Duration defaultDuration = Duration.ofMinutes(1);
+
+    /**
+     * Recordings requested for longer are cut to this length.
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /**
+     * Upper bound on the data kept by a single recording; older chunks are discarded first.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Number of recordings, finished or not, kept on disk; the oldest finished recording is deleted first.
+     */
+    private int retained = 3;
+
+    /**
+     * Directory recordings are written to.
+     */
+    private File directory = new File(System.getProperty("java.io.tmpdir"), "jfr");
+}
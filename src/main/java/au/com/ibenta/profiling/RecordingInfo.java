@@ -0,0 +1,24 @@
+package au.com.ibenta.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Value
+public class RecordingInfo {
+
+    long id;
+    RecordingProfile profile;
+    RecordingState state;
+    Instant startTime;
+    Duration duration;
+    long size;
+
+    static RecordingInfo of(final RecordingProfile profile, final Recording recording) {
+        return new RecordingInfo(recording.getId(), profile, recording.getState(), recording.getStartTime(),
+                recording.getDuration(), recording.getSize());
+    }
+}
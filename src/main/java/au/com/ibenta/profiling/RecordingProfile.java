@@ -0,0 +1,59 @@
+package au.com.ibenta.profiling;
+
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Presets applied on top of the low-overhead "default" JFR configuration, with the events that capture the process
+ * environment and system properties switched off so recordings carry no credentials.
+ *
+ * <p>{@link #ALLOCATION} records stack traces only for allocations outside TLABs, which are large and comparatively
+ * rare; allocations in new TLABs happen too often to walk the stack for each one.
+ */
+public enum RecordingProfile {
+
+    CPU(Map.of(
+            "jdk.ExecutionSample#enabled", "true",
+            "jdk.ExecutionSample#period", "10 ms",
+            "jdk.NativeMethodSample#enabled", "true",
+            "jdk.NativeMethodSample#period", "20 ms")),
+
+    ALLOCATION(Map.of(
+            "jdk.ObjectAllocationInNewTLAB#enabled", "true",
+            "jdk.ObjectAllocationInNewTLAB#stackTrace", "false",
+            "jdk.ObjectAllocationOutsideTLAB#enabled", "true",
+            "jdk.ObjectAllocationOutsideTLAB#stackTrace", "true")),
+
+    LOCKS(Map.of(
+            "jdk.JavaMonitorEnter#enabled", "true",
+            "jdk.JavaMonitorEnter#threshold", "10 ms",
+            "jdk.JavaMonitorWait#enabled", "true",
+            "jdk.JavaMonitorWait#threshold", "10 ms",
+            "jdk.ThreadPark#enabled", "true",
+            "jdk.ThreadPark#threshold", "10 ms"));
+
+    private static final Map<String, String> REDACTED = Map.of(
+            "jdk.InitialEnvironmentVariable#enabled", "false",
+            "jdk.InitialSystemProperty#enabled", "false");
+
+    private final Map<String, String> overrides;
+
+    RecordingProfile(final Map<String, String> overrides) {
+        this.overrides = overrides;
+    }
+
+    public Map<String, String> settings() {
+        try {
+            final Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(overrides);
+            settings.putAll(REDACTED);
+            return settings;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Default JFR configuration is not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package au.com.ibenta.profiling;
+
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.reactive.server.WebFluxTags;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records the bytes each request allocates, per route, from the JVM's per-thread allocation counter.
+ *
+ * <p>An event-loop thread serves many requests, so the counter can only be attributed to one of them while its handling
+ * runs synchronously: the allocation is recorded for requests that complete before subscribing to the filter chain
+ * returns, and requests that go asynchronous are counted in {@code http.server.requests.allocation.skipped}. GC pauses
+ * cannot be attributed to a route at all; they are reported JVM-wide as {@code jvm.gc.pause}.
+ */
+public class RouteAllocationWebFilter implements WebFilter {
+
+    private final MeterRegistry registry;
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final boolean supported = threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+
+    public RouteAllocationWebFilter(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        if (!supported) {
+            return chain.filter(exchange);
+        }
+
+        return Mono.create(sink -> {
+            final long thread = Thread.currentThread().getId();
+            final long allocated = threads.getThreadAllocatedBytes(thread);
+            final var subscribing = new AtomicBoolean(true);
+
+            sink.onCancel(chain.filter(exchange)
+                    .doFinally(signal -> record(exchange, subscribing.get() ? threads.getThreadAllocatedBytes(thread) - allocated : -1))
+                    .subscriberContext(sink.currentContext())
+                    .subscribe(null, sink::error, () -> sink.success()));
+            subscribing.set(false);
+        });
+    }
+
+    private void record(final ServerWebExchange exchange, final long bytes) {
+        final var tags = Tags.of(WebFluxTags.method(exchange), WebFluxTags.uri(exchange));
+        if (bytes < 0) {
+            registry.counter("http.server.requests.allocation.skipped", tags).increment();
+            return;
+        }
+
+        DistributionSummary.builder("http.server.requests.allocation")
+                .description("Bytes allocated by requests handled synchronously on one thread")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry)
+                .record(bytes);
+    }
+}
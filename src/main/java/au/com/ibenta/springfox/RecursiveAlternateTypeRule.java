@@ -6,11 +6,15 @@ import springfox.documentation.schema.AlternateTypeRule;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RecursiveAlternateTypeRule extends AlternateTypeRule {
 
     private final TypeResolver resolver;
     private final List<AlternateTypeRule> rules;
+    private final Map<ResolvedType, ResolvedType> alternates = new ConcurrentHashMap<>();
+    private final Map<ResolvedType, Boolean> applicable = new ConcurrentHashMap<>();
 
     public RecursiveAlternateTypeRule(final TypeResolver resolver,
                                       final List<AlternateTypeRule> rules) {
@@ -21,17 +25,24 @@ public class RecursiveAlternateTypeRule extends AlternateTypeRule {
 
     @Override
     public ResolvedType alternateFor(final ResolvedType type) {
+        final var alternate = alternates.get(type);
+        if (alternate != null) {
+            return alternate;
+        }
+
         final var newType = rules.stream()
                 .map(rule -> rule.alternateFor(type))
                 .filter(resolvedType -> !resolvedType.equals(type))
                 .findFirst()
                 .orElse(type);
 
-        return appliesTo(newType) ? alternateFor(newType) : newType;
+        final var resolved = appliesTo(newType) ? alternateFor(newType) : newType;
+        alternates.put(type, resolved);
+        return resolved;
     }
 
     @Override
     public boolean appliesTo(final ResolvedType type) {
-        return rules.stream().anyMatch(rule -> rule.appliesTo(type));
+        return applicable.computeIfAbsent(type, candidate -> rules.stream().anyMatch(rule -> rule.appliesTo(candidate)));
     }
 }
@@ -1,8 +1,10 @@
 package au.com.ibenta.springfox;
 
+import au.com.ibenta.fields.Fields;
 import com.fasterxml.classmate.TypeResolver;
 import io.swagger.annotations.Api;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +28,7 @@ import static springfox.documentation.schema.AlternateTypeRules.newRule;
 
 @Configuration
 @EnableOpenApi
+@ConditionalOnProperty(value = "springfox.documentation.enabled", havingValue = "true", matchIfMissing = true)
 public class SpringFoxConfiguration {
 
     private final TypeResolver resolver;
@@ -45,6 +48,7 @@ public class SpringFoxConfiguration {
                 .paths(PathSelectors.any())
                 .build()
                 .apiInfo(apiInfo())
+                .ignoredParameterTypes(Fields.class)
                 .alternateTypeRules(monoTypeRule())
                 .alternateTypeRules(fluxTypeRule());
     }
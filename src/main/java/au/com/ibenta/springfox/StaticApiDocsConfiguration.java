@@ -0,0 +1,46 @@
+package au.com.ibenta.springfox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+import static org.springframework.web.reactive.function.server.ServerResponse.notFound;
+import static org.springframework.web.reactive.function.server.ServerResponse.ok;
+
+/**
+ * Serves the API document generated at build time when runtime SpringFox scanning is switched off with
+ * {@code springfox.documentation.enabled=false}, along with the resources Swagger UI looks up to find it.
+ */
+@Configuration
+@ConditionalOnProperty(value = "springfox.documentation.enabled", havingValue = "false")
+public class StaticApiDocsConfiguration {
+
+    public static final String API_DOCS_PATH = "/v2/api-docs";
+    public static final String API_DOCS_RESOURCE = "static/api-docs/swagger.json";
+
+    @Bean
+    RouterFunction<ServerResponse> staticApiDocs() {
+        final var apiDocs = new ClassPathResource(API_DOCS_RESOURCE);
+        final var swaggerResources = List.of(Map.of(
+                "name", "default",
+                "url", API_DOCS_PATH,
+                "location", API_DOCS_PATH,
+                "swaggerVersion", "2.0"));
+
+        return route(GET(API_DOCS_PATH), req -> apiDocs.exists()
+                ? ok().contentType(APPLICATION_JSON).bodyValue(apiDocs)
+                : notFound().build())
+                .andRoute(GET("/swagger-resources"), req -> ok().contentType(APPLICATION_JSON).bodyValue(swaggerResources))
+                .andRoute(GET("/swagger-resources/configuration/ui"), req -> ok().contentType(APPLICATION_JSON).bodyValue(Map.of()))
+                .andRoute(GET("/swagger-resources/configuration/security"), req -> ok().contentType(APPLICATION_JSON).bodyValue(Map.of()));
+    }
+}
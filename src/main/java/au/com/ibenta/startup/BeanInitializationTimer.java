@@ -0,0 +1,65 @@
+package au.com.ibenta.startup;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times each bean from instantiation to the end of initialisation and attributes it to the auto-configuration that
+ * declared it, if any.
+ */
+public class BeanInitializationTimer implements InstantiationAwareBeanPostProcessor, BeanFactoryAware {
+
+    private static final String AUTO_CONFIGURE_PACKAGE = ".autoconfigure.";
+
+    private final ObjectProvider<StartupTimeline> timeline;
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public BeanInitializationTimer(final ObjectProvider<StartupTimeline> timeline) {
+        this.timeline = timeline;
+    }
+
+    @Override
+    public void setBeanFactory(final BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory) {
+            this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(final Class<?> beanClass, final String beanName) {
+        started.putIfAbsent(beanName, System.nanoTime());
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final Long start = started.remove(beanName);
+        if (start != null) {
+            timeline.getObject().bean(beanName, autoConfigurationOf(beanName), Duration.ofNanos(System.nanoTime() - start));
+        }
+        return bean;
+    }
+
+    private String autoConfigurationOf(final String beanName) {
+        if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) {
+            return null;
+        }
+
+        final BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+        String declaringClass = definition.getBeanClassName();
+        if (definition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            declaringClass = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+
+        return declaringClass != null && declaringClass.contains(AUTO_CONFIGURE_PACKAGE) ? declaringClass : null;
+    }
+}
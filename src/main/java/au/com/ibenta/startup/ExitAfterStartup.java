@@ -0,0 +1,40 @@
+package au.com.ibenta.startup;
+
+import au.com.ibenta.warmup.WarmupHealthIndicator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ExitCodeGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks a run that exits once startup, including warm-up, has finished: the {@code migrate} profile, run as a job once
+ * per release, and the class-data-sharing training run in the {@code Dockerfile}, whose recorded class list then covers
+ * everything a real pod loads before serving. {@code Application.main} waits on it and exits with its code.
+ */
+@Slf4j
+public class ExitAfterStartup implements ExitCodeGenerator {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final StartupTimeline timeline;
+    private final ObjectProvider<WarmupHealthIndicator> warmup;
+
+    public ExitAfterStartup(final StartupTimeline timeline, final ObjectProvider<WarmupHealthIndicator> warmup) {
+        this.timeline = timeline;
+        this.warmup = warmup;
+    }
+
+    public void awaitStartup() throws InterruptedException {
+        final var indicator = warmup.getIfAvailable();
+        while (indicator != null && !indicator.isComplete()) {
+            TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+        }
+        log.info("Startup complete {}, exiting", timeline.snapshot());
+    }
+
+    @Override
+    public int getExitCode() {
+        return 0;
+    }
+}
@@ -0,0 +1,20 @@
+package au.com.ibenta.startup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("schema.verify")
+public class SchemaProperties {
+
+    /**
+     * Check at startup that every changeset is applied, without taking the Liquibase lock. Intended for pods that run
+     * with {@code spring.liquibase.enabled=false} while a separate job runs the {@code migrate} profile.
+     */
+    private boolean enabled;
+
+    /**
+     * Refuse to start when changesets are pending, rather than only logging them.
+     */
+    private boolean failOnPending = true;
+}
@@ -0,0 +1,111 @@
+package au.com.ibenta.startup;
+
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import liquibase.snapshot.SnapshotGeneratorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compares the changelog against the rows of {@code DATABASECHANGELOG}, so pods can confirm the schema is current with a
+ * single read and no Liquibase lock, table creation or checksum validation. Changesets are matched on ID, author and
+ * file only: a modified {@code runOnChange} changeset is not reported as pending.
+ */
+@Slf4j
+public class SchemaVerifier implements InitializingBean {
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final DataSource dataSource;
+    private final SchemaProperties properties;
+    private final StartupTimeline timeline;
+    private final String changeLog;
+
+    public SchemaVerifier(final DataSource dataSource,
+                          final SchemaProperties properties,
+                          final StartupTimeline timeline,
+                          final String changeLog) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.timeline = timeline;
+        this.changeLog = normalize(changeLog);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final List<ChangeSet> pending = timeline.time("schema-verify", this::pendingChangeSets);
+        if (pending.isEmpty()) {
+            log.info("Database schema is up to date with {}", changeLog);
+            return;
+        }
+
+        final var message = String.format("%d pending changeset(s), run the migrate profile first: %s", pending.size(),
+                pending.stream().map(changeSet -> changeSet.getId() + ":" + changeSet.getAuthor()).collect(joining(", ")));
+        if (properties.isFailOnPending()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private List<ChangeSet> pendingChangeSets() {
+        try (Connection connection = dataSource.getConnection()) {
+            final var database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            final var resourceAccessor = new ClassLoaderResourceAccessor(getClass().getClassLoader());
+            final var databaseChangeLog = ChangeLogParserFactory.getInstance()
+                    .getParser(changeLog, resourceAccessor)
+                    .parse(changeLog, new ChangeLogParameters(database), resourceAccessor);
+
+            final Set<String> ran = ranChangeSets(connection, database);
+            return databaseChangeLog.getChangeSets().stream()
+                    .filter(changeSet -> !ran.contains(key(changeSet.getId(), changeSet.getAuthor(), changeSet.getFilePath())))
+                    .collect(toList());
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to verify database schema", e);
+        }
+    }
+
+    private static Set<String> ranChangeSets(final Connection connection, final Database database)
+            throws LiquibaseException, SQLException {
+        final Set<String> ran = new HashSet<>();
+        if (!SnapshotGeneratorFactory.getInstance().hasDatabaseChangeLogTable(database)) {
+            return ran;
+        }
+
+        final var table = database.escapeTableName(database.getLiquibaseCatalogName(), database.getLiquibaseSchemaName(),
+                database.getDatabaseChangeLogTableName());
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select ID, AUTHOR, FILENAME from " + table)) {
+            while (rows.next()) {
+                ran.add(key(rows.getString(1), rows.getString(2), rows.getString(3)));
+            }
+        }
+        return ran;
+    }
+
+    private static String key(final String id, final String author, final String file) {
+        return id + ":" + author + ":" + normalize(file);
+    }
+
+    private static String normalize(final String path) {
+        final var file = path.startsWith(CLASSPATH_PREFIX) ? path.substring(CLASSPATH_PREFIX.length()) : path;
+        return file.replace('\\', '/').replaceFirst("^/", "");
+    }
+}
@@ -0,0 +1,50 @@
+package au.com.ibenta.startup;
+
+import au.com.ibenta.warmup.WarmupHealthIndicator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+import static au.com.ibenta.datasource.DataSources.DEFAULT_CHANGE_LOG;
+
+@Configuration
+@EnableConfigurationProperties(SchemaProperties.class)
+public class StartupConfiguration {
+
+    @Bean
+    static StartupTimeline startupTimeline() {
+        return new StartupTimeline();
+    }
+
+    @Bean
+    StartupEndpoint startupEndpoint(final StartupTimeline startupTimeline) {
+        return new StartupEndpoint(startupTimeline);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "schema.verify", name = "enabled", havingValue = "true")
+    SchemaVerifier schemaVerifier(final DataSource dataSource,
+                                  final SchemaProperties properties,
+                                  final StartupTimeline startupTimeline,
+                                  @Value("${spring.liquibase.change-log:" + DEFAULT_CHANGE_LOG + "}")
+                                  final String changeLog) {
+        return new SchemaVerifier(dataSource, properties, startupTimeline, changeLog);
+    }
+
+    @Bean
+    static BeanInitializationTimer beanInitializationTimer(final ObjectProvider<StartupTimeline> startupTimeline) {
+        return new BeanInitializationTimer(startupTimeline);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "startup", name = "exit-after-startup", havingValue = "true")
+    ExitAfterStartup exitAfterStartup(final StartupTimeline startupTimeline,
+                                      final ObjectProvider<WarmupHealthIndicator> warmupHealthIndicator) {
+        return new ExitAfterStartup(startupTimeline, warmupHealthIndicator);
+    }
+}
@@ -0,0 +1,21 @@
+package au.com.ibenta.startup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+@Endpoint(id = "startup")
+public class StartupEndpoint {
+
+    private final StartupTimeline timeline;
+
+    public StartupEndpoint(final StartupTimeline timeline) {
+        this.timeline = timeline;
+    }
+
+    @ReadOperation
+    public Map<String, Object> timeline() {
+        return timeline.snapshot();
+    }
+}
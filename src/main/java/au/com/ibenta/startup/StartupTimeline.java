@@ -0,0 +1,94 @@
+package au.com.ibenta.startup;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Startup milestones, as milliseconds since JVM start, the duration of individual startup phases, and the slowest
+ * beans and auto-configurations to initialise.
+ *
+ * <p>Bean durations are inclusive of the dependencies created while initialising the bean, so they overlap and do not
+ * add up to the total startup time.
+ */
+public class StartupTimeline {
+
+    private static final int TOP = 50;
+
+    private final long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final Map<String, Long> milestones = new LinkedHashMap<>();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> beans = new HashMap<>();
+    private final Map<String, Long> autoConfigurations = new HashMap<>();
+
+    public synchronized void milestone(final String name) {
+        milestones.putIfAbsent(name, System.currentTimeMillis() - jvmStart);
+    }
+
+    public synchronized void phase(final String name, final Duration duration) {
+        phases.merge(name, duration.toMillis(), Long::sum);
+    }
+
+    public synchronized void bean(final String name, final String autoConfiguration, final Duration duration) {
+        beans.put(name, duration.toMillis());
+        if (autoConfiguration != null) {
+            autoConfigurations.merge(autoConfiguration, duration.toMillis(), Long::sum);
+        }
+    }
+
+    public <T> T time(final String phase, final Supplier<T> work) {
+        final long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            phase(phase, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        final Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("milestones", new LinkedHashMap<>(milestones));
+        snapshot.put("phases", new LinkedHashMap<>(phases));
+        snapshot.put("beans", slowest(beans));
+        snapshot.put("autoConfigurations", slowest(autoConfigurations));
+        return snapshot;
+    }
+
+    private static Map<String, Long> slowest(final Map<String, Long> durations) {
+        return durations.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP)
+                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, (left, right) -> left, LinkedHashMap::new));
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    void contextRefreshed() {
+        milestone("context-refreshed");
+    }
+
+    @EventListener(WebServerInitializedEvent.class)
+    void webServerStarted() {
+        milestone("web-server-started");
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void applicationStarted() {
+        milestone("application-started");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void applicationReady() {
+        milestone("application-ready");
+    }
+}
@@ -1,6 +1,9 @@
 package au.com.ibenta.template;
 
+import au.com.ibenta.fields.Fields;
+import au.com.ibenta.fields.FieldsOf;
 import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static java.lang.String.format;
@@ -21,14 +25,19 @@ import static java.lang.String.format;
 public class TemplateController {
 
     @GetMapping
-    Flux<Template> list() {
+    @ApiOperation(value = "List templates", response = Template.class, responseContainer = "List")
+    Flux<Map<String, Object>> list(@FieldsOf(Template.class) final Fields fields) {
         return Flux.fromStream(IntStream.range(1, 11).boxed())
                 .map(String::valueOf)
-                .map(id -> Template.builder().id(id).name(format("name is %s", id)).build());
+                .map(id -> Template.builder().id(id).name(format("name is %s", id)).build())
+                .map(fields::project);
     }
 
     @GetMapping("/{id}")
-    ResponseEntity<Mono<Template>> get(@PathVariable("id") final String id) {
-        return ResponseEntity.ok(Mono.just(Template.builder().id(id).name(format("name: %s", id)).build()));
+    @ApiOperation(value = "Get a template", response = Template.class)
+    ResponseEntity<Mono<Map<String, Object>>> get(@PathVariable("id") final String id,
+                                                  @FieldsOf(Template.class) final Fields fields) {
+        return ResponseEntity.ok(Mono.just(Template.builder().id(id).name(format("name: %s", id)).build())
+                .map(fields::project));
     }
 }
@@ -0,0 +1,20 @@
+package au.com.ibenta.test.feed;
+
+import au.com.ibenta.test.persistence.UserChangeType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+@Builder
+public class UserChange {
+
+    long id;
+    UserChangeType type;
+    Long userId;
+    String firstName;
+    String lastName;
+    String email;
+    Instant timestamp;
+}
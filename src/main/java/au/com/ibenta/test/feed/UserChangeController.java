@@ -0,0 +1,41 @@
+package au.com.ibenta.test.feed;
+
+import io.swagger.annotations.Api;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+@Api(tags = "user")
+@RestController
+@RequestMapping("/user/changes")
+public class UserChangeController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final UserChangeFeed feed;
+
+    public UserChangeController(final UserChangeFeed feed) {
+        this.feed = feed;
+    }
+
+    @GetMapping(produces = TEXT_EVENT_STREAM_VALUE)
+    Flux<ServerSentEvent<UserChange>> events(@RequestHeader(value = LAST_EVENT_ID, required = false) final Long lastEventId) {
+        return feed.subscribe(lastEventId)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(String.valueOf(change.getId()))
+                        .event(change.getType().name())
+                        .build());
+    }
+
+    @GetMapping(produces = APPLICATION_STREAM_JSON_VALUE)
+    Flux<UserChange> stream(@RequestParam(value = "lastEventId", required = false) final Long lastEventId) {
+        return feed.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,126 @@
+package au.com.ibenta.test.feed;
+
+import au.com.ibenta.test.persistence.UserEntityChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process bus of committed {@link UserEntityChanged} events fanned out to reactive subscribers.
+ *
+ * <p>Each subscriber gets its own bounded buffer so a slow consumer never holds up the committing thread or the other
+ * subscribers. The most recent changes are kept in a ring buffer so a reconnecting client can resume from the last
+ * event ID it saw.
+ */
+@Slf4j
+public class UserChangeFeed {
+
+    private final UserFeedProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Deque<UserChange> history;
+    private final Set<FeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter disconnected;
+
+    public UserChangeFeed(final UserFeedProperties properties, final MeterRegistry registry) {
+        this.properties = properties;
+        this.history = new ArrayDeque<>(properties.getHistorySize());
+        this.published = registry.counter("user.feed.published");
+        this.dropped = registry.counter("user.feed.dropped");
+        this.disconnected = registry.counter("user.feed.disconnected");
+
+        Gauge.builder("user.feed.subscribers", subscribers, Set::size)
+                .description("Number of active user change subscribers")
+                .register(registry);
+        Gauge.builder("user.feed.lag", this, UserChangeFeed::maxLag)
+                .description("Changes published but not yet delivered to the slowest subscriber")
+                .register(registry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserEntityChanged(final UserEntityChanged changed) {
+        synchronized (history) {
+            final var change = UserChange.builder()
+                    .id(sequence.incrementAndGet())
+                    .type(changed.getType())
+                    .userId(changed.getId())
+                    .firstName(changed.getFirstName())
+                    .lastName(changed.getLastName())
+                    .email(changed.getEmail())
+                    .timestamp(Instant.now())
+                    .build();
+
+            if (history.size() == properties.getHistorySize()) {
+                history.removeFirst();
+            }
+            history.addLast(change);
+            subscribers.forEach(subscriber -> subscriber.sink.next(change));
+        }
+        published.increment();
+    }
+
+    /**
+     * Subscribes to changes committed after {@code lastEventId}, or to new changes only when it is {@code null}.
+     */
+    public Flux<UserChange> subscribe(final Long lastEventId) {
+        final var subscriber = new FeedSubscriber();
+        final var overflow = properties.getOverflow();
+
+        return Flux.<UserChange>create(sink -> register(subscriber, sink, lastEventId))
+                .onBackpressureBuffer(properties.getBufferSize(), change -> {
+                    if (overflow.isDropping()) {
+                        dropped.increment();
+                    }
+                }, overflow.getStrategy())
+                .doOnNext(change -> subscriber.delivered.set(change.getId()))
+                .onErrorResume(Exceptions::isOverflow, error -> {
+                    log.warn("Disconnecting slow user change subscriber at event {}", subscriber.delivered.get());
+                    disconnected.increment();
+                    return Flux.empty();
+                });
+    }
+
+    private void register(final FeedSubscriber subscriber, final FluxSink<UserChange> sink, final Long lastEventId) {
+        synchronized (history) {
+            subscriber.sink = sink;
+            subscriber.delivered.set(lastEventId == null ? sequence.get() : lastEventId);
+
+            if (lastEventId != null) {
+                if (!history.isEmpty() && history.getFirst().getId() > lastEventId + 1) {
+                    log.warn("Cannot fully resume user changes from {}, oldest retained is {}", lastEventId, history.getFirst().getId());
+                }
+                history.stream().filter(change -> change.getId() > lastEventId).forEach(sink::next);
+            }
+            subscribers.add(subscriber);
+        }
+        sink.onDispose(() -> subscribers.remove(subscriber));
+    }
+
+    private double maxLag() {
+        final long latest = sequence.get();
+        return subscribers.stream()
+                .mapToLong(subscriber -> latest - subscriber.delivered.get())
+                .max()
+                .orElse(0);
+    }
+
+    private static final class FeedSubscriber {
+
+        private final AtomicLong delivered = new AtomicLong();
+        private FluxSink<UserChange> sink;
+    }
+}
@@ -0,0 +1,16 @@
+package au.com.ibenta.test.feed;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserFeedProperties.class)
+public class UserFeedConfiguration {
+
+    @Bean
+    UserChangeFeed userChangeFeed(final UserFeedProperties properties, final MeterRegistry registry) {
+        return new UserChangeFeed(properties, registry);
+    }
+}
@@ -0,0 +1,44 @@
+package au.com.ibenta.test.feed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.core.publisher.BufferOverflowStrategy;
+
+@Data
+@ConfigurationProperties("user.feed")
+public class UserFeedProperties {
+
+    /**
+     * Maximum number of undelivered changes buffered per subscriber.
+     */
+    private int bufferSize = 256;
+
+    /**
+     * Number of recent changes kept for resuming from a last event ID.
+     */
+    private int historySize = 1024;
+
+    /**
+     * What to do when a subscriber's buffer is full.
+     */
+    private Overflow overflow = Overflow.DROP_OLDEST;
+
+    public enum Overflow {
+        DROP_OLDEST(BufferOverflowStrategy.DROP_OLDEST),
+        DISCONNECT(BufferOverflowStrategy.ERROR);
+
+        private final BufferOverflowStrategy strategy;
+
+        Overflow(final BufferOverflowStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        BufferOverflowStrategy getStrategy() {
+            return strategy;
+        }
+
+        boolean isDropping() {
+            return strategy != BufferOverflowStrategy.ERROR;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package au.com.ibenta.test.persistence;
+
+public enum UserChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -1,16 +1,22 @@
 package au.com.ibenta.test.persistence;
 
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
 @Data
 @Entity
+@EntityListeners(UserEntityListener.class)
 @Table(name = "user")
 public class UserEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "user_id")
+    @GenericGenerator(name = "user_id",
+            strategy = "au.com.ibenta.datasource.sharding.ShardAwareSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "hibernate_sequence"))
     private Long id;
 
     @Column(nullable = false, name = "first_name")
@@ -0,0 +1,20 @@
+package au.com.ibenta.test.persistence;
+
+import lombok.Value;
+
+/**
+ * Snapshot of a {@link UserEntity} taken when a lifecycle callback fires, so later changes to the entity don't leak in.
+ */
+@Value
+public class UserEntityChanged {
+
+    UserChangeType type;
+    Long id;
+    String firstName;
+    String lastName;
+    String email;
+
+    static UserEntityChanged of(final UserChangeType type, final UserEntity user) {
+        return new UserEntityChanged(type, user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+    }
+}
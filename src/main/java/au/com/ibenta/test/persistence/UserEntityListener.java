@@ -0,0 +1,37 @@
+package au.com.ibenta.test.persistence;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import static au.com.ibenta.test.persistence.UserChangeType.CREATED;
+import static au.com.ibenta.test.persistence.UserChangeType.DELETED;
+import static au.com.ibenta.test.persistence.UserChangeType.UPDATED;
+
+@Component
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public UserEntityListener(final ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    void created(final UserEntity user) {
+        publisher.publishEvent(UserEntityChanged.of(CREATED, user));
+    }
+
+    @PostUpdate
+    void updated(final UserEntity user) {
+        publisher.publishEvent(UserEntityChanged.of(UPDATED, user));
+    }
+
+    @PostRemove
+    void deleted(final UserEntity user) {
+        publisher.publishEvent(UserEntityChanged.of(DELETED, user));
+    }
+}
@@ -0,0 +1,20 @@
+package au.com.ibenta.test.persistence;
+
+import au.com.ibenta.fields.Fields;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface UserProjectionRepository {
+
+    /**
+     * Properties that may be projected; the password is never selectable, whatever the caller passes.
+     */
+    List<String> USER_FIELDS = List.of("id", "firstName", "lastName", "email");
+
+    List<Map<String, Object>> findAll(Fields fields, Pageable pageable);
+
+    Optional<Map<String, Object>> findById(Long id, Fields fields);
+}
@@ -0,0 +1,67 @@
+package au.com.ibenta.test.persistence;
+
+import au.com.ibenta.fields.Fields;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+@Transactional(readOnly = true)
+public class UserProjectionRepositoryImpl implements UserProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAll(final Fields fields, final Pageable pageable) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<UserEntity> root = query.from(UserEntity.class);
+        query.multiselect(selections(fields, root)).orderBy(toOrders(pageable.getSort(), root, builder));
+
+        final var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(tuple -> toMap(fields, tuple))
+                .collect(toList());
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findById(final Long id, final Fields fields) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        final Root<UserEntity> root = query.from(UserEntity.class);
+        query.multiselect(selections(fields, root)).where(builder.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toMap(fields, tuple));
+    }
+
+    private static List<Selection<?>> selections(final Fields fields, final Root<UserEntity> root) {
+        return fields.requireAllowed(USER_FIELDS).getNames().stream()
+                .<Selection<?>>map(name -> root.get(name).alias(name))
+                .collect(toList());
+    }
+
+    private static Map<String, Object> toMap(final Fields fields, final Tuple tuple) {
+        final var map = new LinkedHashMap<String, Object>();
+        fields.getNames().forEach(name -> map.put(name, tuple.get(name)));
+        return map;
+    }
+}
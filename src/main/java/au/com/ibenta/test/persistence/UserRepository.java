@@ -2,5 +2,5 @@ package au.com.ibenta.test.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserProjectionRepository {
 }
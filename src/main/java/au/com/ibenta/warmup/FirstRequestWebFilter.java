@@ -0,0 +1,47 @@
+package au.com.ibenta.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static au.com.ibenta.warmup.WarmupRunner.WARMUP_HEADER;
+
+/**
+ * Records the latency of the first real request served, to compare pods started with and without warm-up. Warm-up
+ * requests and actuator calls, such as the kubelet's health probes, do not count.
+ */
+public class FirstRequestWebFilter implements WebFilter {
+
+    private final AtomicBoolean recorded = new AtomicBoolean();
+    private final AtomicLong latency = new AtomicLong();
+    private final String actuatorBasePath;
+
+    public FirstRequestWebFilter(final MeterRegistry registry, final String actuatorBasePath) {
+        this.actuatorBasePath = actuatorBasePath;
+        registry.gauge("http.server.requests.first", latency);
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        if (recorded.get() || exchange.getRequest().getHeaders().containsKey(WARMUP_HEADER) || isActuator(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        final long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            if (recorded.compareAndSet(false, true)) {
+                latency.set((System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+
+    private boolean isActuator(final ServerWebExchange exchange) {
+        final var path = exchange.getRequest().getPath().pathWithinApplication().value();
+        return path.equals(actuatorBasePath) || path.startsWith(actuatorBasePath + "/");
+    }
+}
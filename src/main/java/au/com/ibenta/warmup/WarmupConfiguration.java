@@ -0,0 +1,36 @@
+package au.com.ibenta.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfiguration {
+
+    @Bean
+    FirstRequestWebFilter firstRequestWebFilter(final MeterRegistry registry, final WebEndpointProperties webEndpointProperties) {
+        return new FirstRequestWebFilter(registry, webEndpointProperties.getBasePath());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    WarmupHealthIndicator warmupHealthIndicator() {
+        return new WarmupHealthIndicator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    WarmupRunner warmupRunner(final WarmupProperties properties,
+                              final WarmupHealthIndicator warmupHealthIndicator,
+                              final WebClient.Builder webClientBuilder,
+                              final Environment environment,
+                              final MeterRegistry registry) {
+        return new WarmupRunner(properties, warmupHealthIndicator, webClientBuilder, environment, registry);
+    }
+}
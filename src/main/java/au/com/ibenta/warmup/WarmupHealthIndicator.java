@@ -0,0 +1,22 @@
+package au.com.ibenta.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private volatile boolean complete;
+
+    @Override
+    public Health health() {
+        return complete ? Health.up().build() : Health.outOfService().withDetail("warmup", "in progress").build();
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    void complete() {
+        complete = true;
+    }
+}
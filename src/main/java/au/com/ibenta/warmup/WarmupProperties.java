@@ -0,0 +1,32 @@
+package au.com.ibenta.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties("warmup")
+public class WarmupProperties {
+
+    /**
+     * Whether readiness waits for synthetic requests to warm up the request pipeline.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Hot routes requested during warm-up, relative to the local server.
+     */
+    private List<String> routes = new ArrayList<>();
+
+    private int requestsPerRoute = 500;
+
+    private int concurrency = 8;
+
+    /**
+     * Readiness is released after this long even if warm-up has not finished.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,100 @@
+package au.com.ibenta.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Sends synthetic requests for the hot routes through the local server once the application is ready, so the JIT,
+ * Netty and the Jackson codecs are warm before {@link WarmupHealthIndicator} lets traffic in.
+ */
+@Slf4j
+public class WarmupRunner {
+
+    public static final String WARMUP_HEADER = "X-Warmup";
+
+    private final WarmupProperties properties;
+    private final WarmupHealthIndicator indicator;
+    private final WebClient.Builder webClientBuilder;
+    private final Environment environment;
+    private final AtomicLong duration = new AtomicLong();
+    private final AtomicBoolean coldRecorded = new AtomicBoolean();
+    private final AtomicLong coldLatency = new AtomicLong();
+    private final AtomicLong warmLatency = new AtomicLong();
+
+    public WarmupRunner(final WarmupProperties properties,
+                        final WarmupHealthIndicator indicator,
+                        final WebClient.Builder webClientBuilder,
+                        final Environment environment,
+                        final MeterRegistry registry) {
+        this.properties = properties;
+        this.indicator = indicator;
+        this.webClientBuilder = webClientBuilder;
+        this.environment = environment;
+
+        registry.gauge("warmup.duration", duration);
+        registry.gauge("warmup.latency", Tags.of("phase", "cold"), coldLatency);
+        registry.gauge("warmup.latency", Tags.of("phase", "warm"), warmLatency);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        final Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || properties.getRoutes().isEmpty()) {
+            indicator.complete();
+            return;
+        }
+
+        final var client = webClientBuilder.clone()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(WARMUP_HEADER, Boolean.TRUE.toString())
+                .build();
+        final long start = System.nanoTime();
+
+        Flux.fromIterable(properties.getRoutes())
+                .concatMap(route -> Flux.range(0, properties.getRequestsPerRoute()).map(index -> route))
+                .flatMap(route -> request(client, route), properties.getConcurrency())
+                .doOnNext(latency -> {
+                    if (!coldRecorded.getAndSet(true)) {
+                        coldLatency.set(latency.toMillis());
+                    }
+                    warmLatency.set(latency.toMillis());
+                })
+                .then()
+                .timeout(properties.getTimeout())
+                .doFinally(signal -> {
+                    duration.set(Duration.ofNanos(System.nanoTime() - start).toMillis());
+                    indicator.complete();
+                    log.info("Warm-up finished ({}) in {} ms, latency cold {} ms, warm {} ms",
+                            signal, duration.get(), coldLatency.get(), warmLatency.get());
+                })
+                .subscribe(done -> { }, error -> log.warn("Warm-up did not complete, releasing readiness anyway", error));
+    }
+
+    private Mono<Duration> request(final WebClient client, final String route) {
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return client.get().uri(route)
+                    .accept(APPLICATION_JSON)
+                    .exchange()
+                    .flatMap(ClientResponse::releaseBody)
+                    .then(Mono.fromCallable(() -> Duration.ofNanos(System.nanoTime() - start)));
+        }).onErrorResume(error -> {
+            log.debug("Warm-up request to {} failed", route, error);
+            return Mono.empty();
+        });
+    }
+}
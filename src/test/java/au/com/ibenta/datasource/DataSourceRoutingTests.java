@@ -0,0 +1,62 @@
+package au.com.ibenta.datasource;
+
+import au.com.ibenta.test.persistence.UserEntity;
+import au.com.ibenta.test.persistence.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test read/write datasource routing")
+@ActiveProfiles(value = {"test", "replica"})
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "datasource.routing.replicas[0].hikari.maximum-pool-size=3"
+})
+public class DataSourceRoutingTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @AfterEach
+    public void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("test read-only work goes to the replica")
+    public void testReadOnlyRoutedToReplica() {
+        final var user = new UserEntity();
+        user.setFirstName("John");
+        user.setLastName("Smith");
+        user.setEmail("john@example.com");
+        user.setPassword("password");
+        userRepository.save(user);
+
+        // the embedded replica is not replicated to, so only the primary sees the write
+        assertThat(userRepository.count(), is(0L));
+        assertThat(DataSourceRouting.onPrimary(userRepository::count), is(1L));
+    }
+
+    @Test
+    @DisplayName("test pools are tuned by the hikari properties")
+    public void testPoolTuning() {
+        final var replica = (HikariDataSource) replicaRoutingDataSource.getReplicas().get(0).getDataSource();
+
+        assertThat(primaryDataSource.getMaximumPoolSize(), is(7));
+        assertThat(replica.getMaximumPoolSize(), is(3));
+        assertThat(replica.getPoolName(), is("replica-0"));
+    }
+}
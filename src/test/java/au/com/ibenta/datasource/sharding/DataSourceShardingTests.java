@@ -0,0 +1,153 @@
+package au.com.ibenta.datasource.sharding;
+
+import au.com.ibenta.fields.Fields;
+import au.com.ibenta.test.persistence.UserEntity;
+import au.com.ibenta.test.persistence.UserRepository;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.List;
+
+import static au.com.ibenta.test.persistence.UserProjectionRepository.USER_FIELDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.core.NestedExceptionUtils.getMostSpecificCause;
+
+@DisplayName("test hash-sharded user storage")
+@ActiveProfiles(value = {"test", "sharding"})
+@SpringBootTest
+public class DataSourceShardingTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @AfterEach
+    public void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("test users are spread across shards and merged on read")
+    public void testScatterGather() {
+        final var john = userRepository.save(user("John"));
+        final var jane = userRepository.save(user("Jane"));
+
+        assertThat(shardRouter.shardOf(john.getId()), not(shardRouter.shardOf(jane.getId())));
+        assertThat(userRepository.findById(john.getId()).map(UserEntity::getFirstName).orElse(null), is("John"));
+        assertThat(userRepository.count(), is(2L));
+
+        final var page = userRepository.findAll(PageRequest.of(0, 1, Sort.by("firstName")));
+        assertThat(page.getTotalElements(), is(2L));
+        assertThat(page.map(UserEntity::getFirstName).getContent(), contains("Jane"));
+    }
+
+    @Test
+    @DisplayName("test example queries and references span all shards")
+    public void testExampleQueries() {
+        final var saved = userRepository.saveAll(List.of(user("John"), user("Jane"), user("Jack")));
+
+        assertThat(saved.stream().map(UserEntity::getFirstName).collect(toList()), contains("John", "Jane", "Jack"));
+        assertThat(userRepository.count(Example.of(probe("Smith"))), is(3L));
+        assertThat(userRepository.exists(Example.of(probe("Smith"))), is(true));
+        assertThat(userRepository.exists(Example.of(probe("Jones"))), is(false));
+
+        final var jane = probe("Smith");
+        jane.setFirstName("Jane");
+        assertThat(userRepository.findOne(Example.of(jane)).map(UserEntity::getId).orElse(null), is(saved.get(1).getId()));
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> userRepository.findOne(Example.of(probe("Smith"))));
+
+        assertThat(userRepository.getOne(saved.get(2).getId()).getFirstName(), is("Jack"));
+        assertThrows(EntityNotFoundException.class, () -> userRepository.getOne(ShardRouter.encode(999, 0)));
+    }
+
+    @Test
+    @DisplayName("test shard writes commit independently of the caller's transaction")
+    public void testWritesNotAtomicWithCaller() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userRepository.save(user("John"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(userRepository.count(), is(1L));
+    }
+
+    @Test
+    @DisplayName("test pages too deep to gather are rejected")
+    public void testDeepPage() {
+        assertThrows(IllegalArgumentException.class, () -> userRepository.findAll(PageRequest.of(Integer.MAX_VALUE / 10, 100)));
+    }
+
+    @Test
+    @DisplayName("test projected pages merge on sort properties that were not selected")
+    public void testProjectedSort() {
+        userRepository.saveAll(List.of(user("John"), user("Jane"), user("Jack"), user("Jill")));
+
+        final var first = userRepository.findAll(Fields.parse("email", USER_FIELDS), PageRequest.of(0, 3, Sort.by("firstName")));
+        assertThat(first.stream().map(user -> user.get("email")).collect(toList()),
+                contains("jack@example.com", "jane@example.com", "jill@example.com"));
+        assertThat(first.get(0).keySet(), contains("email"));
+
+        final var second = userRepository.findAll(Fields.parse("email", USER_FIELDS), PageRequest.of(1, 3, Sort.by("firstName")));
+        assertThat(second.stream().map(user -> user.get("email")).collect(toList()), contains("john@example.com"));
+    }
+
+    @Test
+    @DisplayName("test the changelog runs once per shard instead of through the routing proxy")
+    public void testMigratedPerShard() {
+        assertThat(context.getBeansOfType(SpringLiquibase.class).values(), contains(instanceOf(ShardedLiquibase.class)));
+    }
+
+    @Test
+    @DisplayName("test sharding cannot be combined with replica routing")
+    public void testExclusiveWithRouting() {
+        new ApplicationContextRunner()
+                .withPropertyValues("datasource.sharding.enabled=true", "datasource.routing.enabled=true")
+                .withUserConfiguration(DataSourceShardingConfiguration.class)
+                .run(failed -> assertThat(getMostSpecificCause(failed.getStartupFailure()).getMessage(),
+                        containsString("cannot be enabled together")));
+    }
+
+    private static UserEntity probe(final String lastName) {
+        final var probe = new UserEntity();
+        probe.setLastName(lastName);
+        return probe;
+    }
+
+    private static UserEntity user(final String firstName) {
+        final var user = new UserEntity();
+        user.setFirstName(firstName);
+        user.setLastName("Smith");
+        user.setEmail(firstName.toLowerCase() + "@example.com");
+        user.setPassword("password");
+        return user;
+    }
+}
@@ -0,0 +1,112 @@
+package au.com.ibenta.jdbc;
+
+import brave.Tracer;
+import brave.Tracing;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test jdbc metrics listener")
+public class JdbcMetricsListenerTests {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(JdbcMetricsListener.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private Tracing tracing;
+    private SimpleMeterRegistry registry;
+    private JdbcMetricsListener listener;
+
+    @BeforeEach
+    public void setup() {
+        appender.start();
+        logger.addAppender(appender);
+
+        tracing = Tracing.newBuilder().build();
+        registry = new SimpleMeterRegistry();
+
+        final var properties = new JdbcMetricsProperties();
+        properties.setSlowQueryThreshold(Duration.ofMillis(100));
+        properties.setRepeatedSelectThreshold(2);
+        listener = new JdbcMetricsListener(properties, new RepeatedSelectDetector(2, registry), registry,
+                new StaticListableBeanFactory(Map.of("tracer", tracing.tracer())).getBeanProvider(Tracer.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+        tracing.close();
+    }
+
+    @Test
+    @DisplayName("test statements are timed per shape")
+    public void testMetrics() {
+        listener.afterQuery(execution(5, 1), List.of(new QueryInfo("update user set email = 'a@b.com' where id = 1")));
+        listener.afterQuery(execution(7, 1), List.of(new QueryInfo("update user set email = 'c@d.com' where id = 2")));
+
+        final var timer = registry.get("jdbc.statements")
+                .tag("type", "update")
+                .tag("statement", "update user set email = ? where id = ?")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer.count(), is(2L));
+        assertThat(timer.takeSnapshot().histogramCounts().length, is(10));
+        assertThat(registry.get("jdbc.statements.rows").tag("type", "update").summary().totalAmount(), is(2.0));
+        assertThat(appender.list, is(empty()));
+    }
+
+    @Test
+    @DisplayName("test slow queries are logged with the trace id")
+    public void testSlowQueryLog() {
+        final var span = tracing.tracer().nextSpan().start();
+        try (var scope = tracing.tracer().withSpanInScope(span)) {
+            listener.afterQuery(execution(150, null), List.of(new QueryInfo("select * from user")));
+        } finally {
+            span.abandon();
+        }
+
+        assertThat(appender.list, hasSize(1));
+        assertThat(appender.list.get(0).getFormattedMessage(), containsString("traceId=" + span.context().traceIdString()));
+        assertThat(appender.list.get(0).getFormattedMessage(), containsString("select * from user"));
+    }
+
+    @Test
+    @DisplayName("test repeated selects within a trace are reported")
+    public void testRepeatedSelects() {
+        final var span = tracing.tracer().nextSpan().start();
+        try (var scope = tracing.tracer().withSpanInScope(span)) {
+            listener.afterQuery(execution(1, null), List.of(new QueryInfo("select * from user where id = 1")));
+            listener.afterQuery(execution(1, null), List.of(new QueryInfo("select * from user where id = 2")));
+        } finally {
+            span.abandon();
+        }
+
+        assertThat(registry.get("jdbc.n_plus_one").counter().count(), is(1.0));
+    }
+
+    private static ExecutionInfo execution(final long elapsed, final Object result) {
+        final var execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsed);
+        execution.setSuccess(true);
+        execution.setResult(result);
+        return execution;
+    }
+}
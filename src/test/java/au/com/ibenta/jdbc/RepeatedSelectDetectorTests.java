@@ -0,0 +1,31 @@
+package au.com.ibenta.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DisplayName("test repeated select detection")
+public class RepeatedSelectDetectorTests {
+
+    private static final String SHAPE = "select * from user where id = ?";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RepeatedSelectDetector detector = new RepeatedSelectDetector(3, registry);
+
+    @Test
+    @DisplayName("test a shape repeated to the threshold is reported once per trace")
+    public void testThreshold() {
+        detector.record("trace-1", SHAPE);
+        detector.record("trace-1", SHAPE);
+        detector.record("trace-2", SHAPE);
+        assertThat(registry.find("jdbc.n_plus_one").counter(), is(nullValue()));
+
+        detector.record("trace-1", SHAPE);
+        detector.record("trace-1", SHAPE);
+        assertThat(registry.get("jdbc.n_plus_one").tag("statement", SHAPE).counter().count(), is(1.0));
+    }
+}
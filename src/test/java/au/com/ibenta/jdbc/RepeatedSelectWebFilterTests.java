@@ -0,0 +1,39 @@
+package au.com.ibenta.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static au.com.ibenta.tracing.TracingWebFilter.X_B3_TRACE_ID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DisplayName("test repeated select web filter")
+public class RepeatedSelectWebFilterTests {
+
+    private static final String SHAPE = "select * from user where id = ?";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RepeatedSelectDetector detector = new RepeatedSelectDetector(3, registry);
+    private final RepeatedSelectWebFilter filter = new RepeatedSelectWebFilter(detector);
+
+    @Test
+    @DisplayName("test the web filter releases the counts of a finished request")
+    public void testWebFilterCompletesTrace() {
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/template"));
+
+        detector.record("trace-1", SHAPE);
+        detector.record("trace-1", SHAPE);
+        StepVerifier.create(filter.filter(exchange, chained -> Mono.fromRunnable(
+                () -> chained.getResponse().getHeaders().add(X_B3_TRACE_ID, "trace-1"))))
+                .verifyComplete();
+        detector.record("trace-1", SHAPE);
+
+        assertThat(registry.find("jdbc.n_plus_one").counter(), is(nullValue()));
+    }
+}
@@ -0,0 +1,30 @@
+package au.com.ibenta.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test statement shapes")
+public class StatementShapesTests {
+
+    @Test
+    @DisplayName("test literals and in lists are normalised")
+    public void testShapeOf() {
+        final var shapes = new StatementShapes(10);
+
+        assertThat(shapes.shapeOf("select * from user\n where id in (?, ?,?) and email = 'a@b.com' and id > 10"),
+                is("select * from user where id in (?) and email = ? and id > ?"));
+    }
+
+    @Test
+    @DisplayName("test distinct shapes are bounded")
+    public void testMaxShapes() {
+        final var shapes = new StatementShapes(1);
+
+        assertThat(shapes.shapeOf("select id from user"), is("select id from user"));
+        assertThat(shapes.shapeOf("select email from user"), is(StatementShapes.OTHER));
+        assertThat(StatementShapes.typeOf("select id from user"), is("select"));
+    }
+}
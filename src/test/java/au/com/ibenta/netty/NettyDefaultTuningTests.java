@@ -0,0 +1,27 @@
+package au.com.ibenta.netty;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@DisplayName("test netty with default tuning")
+@ActiveProfiles("test")
+@AutoConfigureWebTestClient
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class NettyDefaultTuningTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("test the server starts and serves with select threads unset")
+    public void testDefaults() {
+        webTestClient.get().uri("/actuator/health/liveness")
+                .exchange()
+                .expectStatus().isOk();
+    }
+}
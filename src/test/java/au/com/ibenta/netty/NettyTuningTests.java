@@ -0,0 +1,41 @@
+package au.com.ibenta.netty;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test netty with explicit tuning")
+@ActiveProfiles("test")
+@AutoConfigureWebTestClient
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "netty.select-threads=1",
+        "netty.worker-threads=2",
+        "netty.native-transport=false",
+        "netty.idle-timeout=5s",
+        "netty.h2c=true",
+        "netty.allocator.heap-arenas=2",
+        "netty.allocator.direct-arenas=2"
+})
+public class NettyTuningTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("test the server serves from dedicated select threads")
+    public void testTuning() {
+        webTestClient.get().uri("/actuator/health/liveness")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("http-select-nio")), is(true));
+    }
+}
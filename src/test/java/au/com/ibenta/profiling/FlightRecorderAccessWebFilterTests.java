@@ -0,0 +1,43 @@
+package au.com.ibenta.profiling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.zalando.problem.ThrowableProblem;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.zalando.problem.Status.UNAUTHORIZED;
+
+@DisplayName("test jfr endpoint access")
+public class FlightRecorderAccessWebFilterTests {
+
+    private final FlightRecorderAccessWebFilter filter = new FlightRecorderAccessWebFilter("/actuator", "secret");
+
+    @Test
+    @DisplayName("test the jfr endpoint requires the token")
+    public void testTokenRequired() {
+        verifyUnauthorized(MockServerHttpRequest.get("/actuator/jfr"));
+        verifyUnauthorized(MockServerHttpRequest.get("/actuator/jfr/1").header(HttpHeaders.AUTHORIZATION, "Bearer wrong"));
+        verifyAllowed(MockServerHttpRequest.post("/actuator/jfr").header(HttpHeaders.AUTHORIZATION, "Bearer secret"));
+    }
+
+    @Test
+    @DisplayName("test probes and metrics stay open")
+    public void testOtherEndpointsOpen() {
+        verifyAllowed(MockServerHttpRequest.get("/actuator/health/liveness"));
+        verifyAllowed(MockServerHttpRequest.get("/actuator/metrics"));
+    }
+
+    private void verifyUnauthorized(final MockServerHttpRequest.BaseBuilder<?> request) {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), exchange -> Mono.empty()))
+                .verifyErrorMatches(error -> error instanceof ThrowableProblem && ((ThrowableProblem) error).getStatus() == UNAUTHORIZED);
+    }
+
+    private void verifyAllowed(final MockServerHttpRequest.BaseBuilder<?> request) {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), exchange -> Mono.empty()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,67 @@
+package au.com.ibenta.profiling;
+
+import jdk.jfr.RecordingState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test flight recordings")
+public class FlightRecordingsTests {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecordings recordings;
+
+    private FlightRecordings recordings(final int retained) {
+        final var properties = new ProfilingProperties();
+        properties.setDirectory(directory.toFile());
+        properties.setMaxDuration(Duration.ofSeconds(30));
+        properties.setRetained(retained);
+        recordings = new FlightRecordings(properties);
+        return recordings;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recordings.destroy();
+    }
+
+    @Test
+    @DisplayName("test only one recording runs at a time and its duration is capped")
+    public void testStart() {
+        final var recordings = recordings(3);
+
+        final var started = recordings.start(RecordingProfile.CPU, Duration.ofHours(1)).orElseThrow();
+        assertThat(started.getState(), is(RecordingState.RUNNING));
+        assertThat(started.getDuration(), is(Duration.ofSeconds(30)));
+        assertThat(recordings.start(RecordingProfile.LOCKS, null).isPresent(), is(false));
+        assertThat(recordings.file(started.getId()).isPresent(), is(false));
+    }
+
+    @Test
+    @DisplayName("test a stopped recording is written and old recordings are evicted")
+    public void testStopAndEvict() throws Exception {
+        final var recordings = recordings(1);
+
+        final var first = recordings.start(RecordingProfile.ALLOCATION, null).orElseThrow();
+        assertThat(recordings.stop(first.getId()).orElseThrow().getState(), is(RecordingState.STOPPED));
+        final var file = recordings.file(first.getId()).orElseThrow();
+        assertThat(Files.size(file), is(greaterThan(0L)));
+
+        final var second = recordings.start(RecordingProfile.CPU, null).orElseThrow();
+        assertThat(recordings.list(), hasSize(1));
+        assertThat(recordings.list().get(0).getId(), is(second.getId()));
+        assertThat(Files.exists(file), is(false));
+    }
+}
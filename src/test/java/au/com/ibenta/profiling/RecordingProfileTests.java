@@ -0,0 +1,27 @@
+package au.com.ibenta.profiling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+
+@DisplayName("test recording profiles")
+public class RecordingProfileTests {
+
+    @Test
+    @DisplayName("test no profile records the environment or system properties")
+    public void testRedacted() {
+        for (final RecordingProfile profile : RecordingProfile.values()) {
+            assertThat(profile.settings(), hasEntry("jdk.InitialEnvironmentVariable#enabled", "false"));
+            assertThat(profile.settings(), hasEntry("jdk.InitialSystemProperty#enabled", "false"));
+        }
+    }
+
+    @Test
+    @DisplayName("test allocation profile skips stack traces for tlab allocations")
+    public void testAllocation() {
+        assertThat(RecordingProfile.ALLOCATION.settings(), hasEntry("jdk.ObjectAllocationInNewTLAB#stackTrace", "false"));
+        assertThat(RecordingProfile.ALLOCATION.settings(), hasEntry("jdk.ObjectAllocationOutsideTLAB#stackTrace", "true"));
+    }
+}
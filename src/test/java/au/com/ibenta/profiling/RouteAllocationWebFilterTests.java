@@ -0,0 +1,49 @@
+package au.com.ibenta.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@DisplayName("test per-route allocation")
+public class RouteAllocationWebFilterTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RouteAllocationWebFilter filter = new RouteAllocationWebFilter(registry);
+
+    @Test
+    @DisplayName("test allocation is recorded for requests handled synchronously")
+    public void testSynchronous() {
+        serve(exchange -> Mono.fromRunnable(() -> exchange.getAttributes().put("payload", new byte[64 * 1024])));
+
+        final var allocation = registry.get("http.server.requests.allocation").summary();
+        assertThat(allocation.count(), is(1L));
+        assertThat(allocation.totalAmount(), greaterThanOrEqualTo(64.0 * 1024));
+        assertThat(registry.find("http.server.requests.allocation.skipped").counter(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("test requests that go asynchronous are skipped rather than misattributed")
+    public void testAsynchronous() {
+        serve(exchange -> Mono.delay(Duration.ofMillis(10)).then());
+
+        assertThat(registry.find("http.server.requests.allocation").summary(), is(nullValue()));
+        assertThat(registry.get("http.server.requests.allocation.skipped").counter().count(), is(1.0));
+    }
+
+    private void serve(final WebFilterChain chain) {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/template")), chain))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,32 @@
+package au.com.ibenta.springfox;
+
+import au.com.ibenta.template.BaseTestClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static au.com.ibenta.springfox.StaticApiDocsConfiguration.API_DOCS_PATH;
+
+/**
+ * Checks the runtime API document that {@link ApiDocsGenerator} packages at build time describes the API.
+ */
+@DisplayName("generate api docs")
+@AutoConfigureWebTestClient
+public class ApiDocsGenerationTests extends BaseTestClass {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("test runtime api docs describe the api")
+    public void testApiDocs() {
+        webTestClient.get().uri(API_DOCS_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.swagger").isEqualTo("2.0")
+                .jsonPath("$.paths['/template']").exists();
+    }
+}
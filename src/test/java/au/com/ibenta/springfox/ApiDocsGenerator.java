@@ -0,0 +1,45 @@
+package au.com.ibenta.springfox;
+
+import au.com.ibenta.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static au.com.ibenta.springfox.StaticApiDocsConfiguration.API_DOCS_PATH;
+
+/**
+ * Build step run at {@code prepare-package}: starts the application with SpringFox scanning on a random port and writes
+ * the API document to the path given as the only argument, so it is packaged whether or not tests run. It lives with the
+ * tests so it never ships in the application jar; {@code -Dmaven.test.skip}, which leaves it uncompiled, fails the build.
+ */
+public final class ApiDocsGenerator {
+
+    private ApiDocsGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Path output = Paths.get(args[0]);
+
+        try (var context = new SpringApplicationBuilder(Application.class)
+                .properties("server.port=0",
+                        "springfox.documentation.enabled=true",
+                        "warmup.enabled=false",
+                        "spring.main.banner-mode=off")
+                .run()) {
+            final int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            final byte[] apiDocs = WebClient.create("http://localhost:" + port)
+                    .get().uri(API_DOCS_PATH)
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .block(Duration.ofMinutes(1));
+
+            Files.createDirectories(output.getParent());
+            Files.write(output, apiDocs);
+        }
+    }
+}
@@ -45,6 +45,28 @@ public class TemplateControllerTests extends BaseTestClass {
                 .jsonPath("$[9].id").isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("test select template fields")
+    public void testSelectTemplateFields() {
+        webTestClient.get().uri("/template/{id}?fields=id", 1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.name").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("test reject unknown template fields")
+    public void testRejectUnknownTemplateFields() {
+        webTestClient.get().uri("/template?fields=id,password")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Unknown Fields")
+                .jsonPath("$.unknown[0]").isEqualTo("password");
+    }
+
     @ParameterizedTest
     @EnumSource(value = HttpStatus.class, names = {"BAD_REQUEST", "INTERNAL_SERVER_ERROR"})
     @DisplayName("test errors")
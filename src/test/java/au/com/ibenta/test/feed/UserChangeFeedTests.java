@@ -0,0 +1,80 @@
+package au.com.ibenta.test.feed;
+
+import au.com.ibenta.test.persistence.UserEntityChanged;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import static au.com.ibenta.test.persistence.UserChangeType.CREATED;
+import static au.com.ibenta.test.persistence.UserChangeType.DELETED;
+import static au.com.ibenta.test.persistence.UserChangeType.UPDATED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test user change feed")
+public class UserChangeFeedTests {
+
+    private UserFeedProperties properties;
+    private SimpleMeterRegistry registry;
+    private UserChangeFeed feed;
+
+    @BeforeEach
+    public void setup() {
+        properties = new UserFeedProperties();
+        properties.setHistorySize(2);
+        registry = new SimpleMeterRegistry();
+        feed = new UserChangeFeed(properties, registry);
+    }
+
+    @Test
+    @DisplayName("test resume from last event id")
+    public void testResume() {
+        feed.onUserEntityChanged(new UserEntityChanged(CREATED, 1L, "John", "Smith", "john@example.com"));
+        feed.onUserEntityChanged(new UserEntityChanged(UPDATED, 1L, "Jane", "Smith", "jane@example.com"));
+
+        StepVerifier.create(feed.subscribe(1L))
+                .expectNextMatches(change -> change.getId() == 2 && change.getType() == UPDATED)
+                .then(() -> feed.onUserEntityChanged(new UserEntityChanged(DELETED, 1L, "Jane", "Smith", "jane@example.com")))
+                .expectNextMatches(change -> change.getId() == 3 && change.getType() == DELETED)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("test disconnect slow subscriber")
+    public void testDisconnectSlowSubscriber() {
+        properties.setBufferSize(1);
+        properties.setOverflow(UserFeedProperties.Overflow.DISCONNECT);
+
+        StepVerifier.create(feed.subscribe(null), 0)
+                .then(() -> feed.onUserEntityChanged(new UserEntityChanged(CREATED, 1L, "John", "Smith", "john@example.com")))
+                .then(() -> feed.onUserEntityChanged(new UserEntityChanged(CREATED, 2L, "Jane", "Smith", "jane@example.com")))
+                .thenRequest(1)
+                .expectNextMatches(change -> change.getUserId() == 1L)
+                .verifyComplete();
+
+        assertThat(registry.counter("user.feed.disconnected").count(), is(1.0));
+        assertThat(registry.counter("user.feed.dropped").count(), is(0.0));
+    }
+
+    @Test
+    @DisplayName("test drop oldest changes for slow subscriber")
+    public void testDropOldest() {
+        properties.setBufferSize(1);
+        properties.setOverflow(UserFeedProperties.Overflow.DROP_OLDEST);
+
+        StepVerifier.create(feed.subscribe(null), 0)
+                .then(() -> feed.onUserEntityChanged(new UserEntityChanged(CREATED, 1L, "John", "Smith", "john@example.com")))
+                .then(() -> feed.onUserEntityChanged(new UserEntityChanged(CREATED, 2L, "Jane", "Smith", "jane@example.com")))
+                .then(() -> feed.onUserEntityChanged(new UserEntityChanged(CREATED, 3L, "Jack", "Smith", "jack@example.com")))
+                .thenRequest(1)
+                .expectNextMatches(change -> change.getUserId() == 3L)
+                .thenCancel()
+                .verify();
+
+        assertThat(registry.counter("user.feed.dropped").count(), is(2.0));
+        assertThat(registry.counter("user.feed.disconnected").count(), is(0.0));
+    }
+}
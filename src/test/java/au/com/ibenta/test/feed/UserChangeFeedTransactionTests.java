@@ -0,0 +1,88 @@
+package au.com.ibenta.test.feed;
+
+import au.com.ibenta.test.persistence.UserEntity;
+import au.com.ibenta.test.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static au.com.ibenta.test.persistence.UserChangeType.CREATED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@DisplayName("test user change feed publishes committed changes")
+@ActiveProfiles("test")
+@SpringBootTest
+public class UserChangeFeedTransactionTests {
+
+    @Autowired
+    private UserChangeFeed feed;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void cleanup() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("test change arrives only after commit")
+    public void testPublishAfterCommit() {
+        final List<UserChange> received = new CopyOnWriteArrayList<>();
+        final var subscription = feed.subscribe(null).subscribe(received::add);
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.saveAndFlush(user());
+                assertThat(received, is(empty()));
+            });
+
+            assertThat(received, hasSize(1));
+            assertThat(received.get(0).getType(), is(CREATED));
+            assertThat(received.get(0).getFirstName(), is("John"));
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("test rolled back change is not published")
+    public void testNoPublishOnRollback() {
+        final List<UserChange> received = new CopyOnWriteArrayList<>();
+        final var subscription = feed.subscribe(null).subscribe(received::add);
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.saveAndFlush(user());
+                status.setRollbackOnly();
+            });
+
+            assertThat(received, is(empty()));
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    private static UserEntity user() {
+        final var user = new UserEntity();
+        user.setFirstName("John");
+        user.setLastName("Smith");
+        user.setEmail("john@example.com");
+        user.setPassword("password");
+        return user;
+    }
+}
@@ -0,0 +1,91 @@
+package au.com.ibenta.test.persistence;
+
+import au.com.ibenta.fields.Fields;
+import au.com.ibenta.fields.UnknownFieldsProblem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static au.com.ibenta.test.persistence.UserProjectionRepository.USER_FIELDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("test user projection queries")
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "au.com.ibenta.test.persistence.RecordingStatementInspector")
+public class UserProjectionRepositoryTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserEntity john;
+
+    @BeforeEach
+    public void setup() {
+        final var user = new UserEntity();
+        user.setFirstName("John");
+        user.setLastName("Smith");
+        user.setEmail("john@example.com");
+        user.setPassword("password");
+        john = userRepository.saveAndFlush(user);
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("test list reads only the requested columns")
+    public void testFindAll() {
+        final var users = userRepository.findAll(Fields.parse("id,firstName", USER_FIELDS), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(users.size(), is(1));
+        assertThat(users.get(0).keySet(), contains("id", "firstName"));
+        assertThat(users.get(0), hasEntry("firstName", (Object) "John"));
+
+        final var selectList = selectList();
+        assertThat(selectList, containsString("first_name"));
+        assertThat(selectList, not(containsString("last_name")));
+        assertThat(selectList, not(containsString("email")));
+        assertThat(selectList, not(containsString("password")));
+    }
+
+    @Test
+    @DisplayName("test find by id reads only the requested columns")
+    public void testFindById() {
+        final var user = userRepository.findById(john.getId(), Fields.parse("email", USER_FIELDS)).orElseThrow();
+
+        assertThat(user.keySet(), contains("email"));
+        assertThat(user, hasEntry("email", (Object) "john@example.com"));
+        assertThat(selectList(), not(containsString("password")));
+        assertThat(selectList(), not(containsString("first_name")));
+    }
+
+    @Test
+    @DisplayName("test the password cannot be requested or projected")
+    public void testPasswordNotSelectable() {
+        assertThrows(UnknownFieldsProblem.class, () -> Fields.parse("email,password", USER_FIELDS));
+        assertThrows(UnknownFieldsProblem.class,
+                () -> userRepository.findAll(Fields.all(List.of("id", "password")), PageRequest.of(0, 10)));
+        assertThrows(UnknownFieldsProblem.class, () -> userRepository.findById(john.getId(), Fields.all(List.of("password"))));
+        assertThat(RecordingStatementInspector.statements().stream().anyMatch(sql -> sql.contains("password")), is(false));
+    }
+
+    private static String selectList() {
+        final var select = RecordingStatementInspector.statements().stream()
+                .filter(sql -> sql.startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return select.substring(0, select.indexOf(" from "));
+    }
+}
@@ -0,0 +1,53 @@
+package au.com.ibenta.warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static au.com.ibenta.warmup.WarmupRunner.WARMUP_HEADER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@DisplayName("test first request latency")
+public class FirstRequestWebFilterTests {
+
+    private static final WebFilterChain SLOW = exchange -> Mono.delay(Duration.ofMillis(200)).then();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FirstRequestWebFilter filter = new FirstRequestWebFilter(registry, "/actuator");
+
+    @Test
+    @DisplayName("test health probes and warm-up requests do not take the first request slot")
+    public void testProbesIgnored() {
+        serve(MockServerHttpRequest.get("/actuator/health/liveness"), exchange -> Mono.empty());
+        serve(MockServerHttpRequest.get("/template").header(WARMUP_HEADER, "true"), exchange -> Mono.empty());
+        serve(MockServerHttpRequest.get("/template"), SLOW);
+
+        assertThat(latency(), greaterThanOrEqualTo(200.0));
+    }
+
+    @Test
+    @DisplayName("test only the first application request is recorded")
+    public void testFirstOnly() {
+        serve(MockServerHttpRequest.get("/template"), exchange -> Mono.empty());
+        serve(MockServerHttpRequest.get("/template/1"), SLOW);
+
+        assertThat(latency(), lessThan(200.0));
+    }
+
+    private void serve(final MockServerHttpRequest.BaseBuilder<?> request, final WebFilterChain chain) {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), chain)).verifyComplete();
+    }
+
+    private double latency() {
+        return registry.get("http.server.requests.first").gauge().value();
+    }
+}
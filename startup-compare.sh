@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+
+# compare container startup with and without the class data sharing archive
+# usage: ./startup-compare.sh [image] [runs]
+set -euo pipefail
+
+IMAGE=${1:-template-service}
+RUNS=${2:-5}
+RESULTS=$(mktemp -d)
+trap 'rm -rf "$RESULTS"' EXIT
+
+ready() {
+    local name=$1
+    until curl -sf "http://localhost:18080/actuator/health/readiness" > /dev/null; do
+        sleep 0.2
+    done
+    curl -sf "http://localhost:18080/actuator/startup" | python3 -c 'import json, sys; print(json.load(sys.stdin)["milestones"]["application-ready"])'
+    docker rm -f "$name" > /dev/null
+}
+
+run() {
+    local label=$1 share=$2
+    for i in $(seq "$RUNS"); do
+        local name="startup-compare-$label-$i"
+        docker run -d --name "$name" -p 18080:8080 "$IMAGE" \
+            java -XX:SharedArchiveFile=app.jsa "$share" -cp "application.jar:lib/*" au.com.ibenta.Application > /dev/null
+        local millis
+        millis=$(ready "$name")
+        echo "$label run $i: application ready after ${millis}ms"
+        echo "$millis" >> "$RESULTS/$label"
+    done
+}
+
+median() {
+    sort -n "$RESULTS/$1" | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+docker build -t "$IMAGE" .
+run cds -Xshare:auto
+run no-cds -Xshare:off
+
+# paste into the "Startup" table of readme.md together with the machine and JDK the runs were taken on
+echo "| CDS archive | median application-ready (ms, $RUNS runs) |"
+echo "|-------------|-------------------------------------------|"
+echo "| on          | $(median cds) |"
+echo "| off         | $(median no-cds) |"